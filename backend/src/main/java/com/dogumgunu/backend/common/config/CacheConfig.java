@@ -0,0 +1,26 @@
+package com.dogumgunu.backend.common.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Okuma cache'lerini açar. Cache advisor'ı transaction advisor'ının dışında
+ * çalışır; böylece yazma metotlarındaki eviction commit'ten sonra gerçekleşir
+ * ve eşzamanlı bir okuma eski veriyi tekrar cache'e koyamaz.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    public static final String TIMELINE_PAGES = "timelinePages";
+    public static final String TIMELINE_RANGES = "timelineRanges";
+    public static final String TIMELINE_EVENTS = "timelineEvents";
+    public static final String TIMELINE_ON_THIS_DAY = "timelineOnThisDay";
+    public static final String TIMELINE_HISTOGRAMS = "timelineHistograms";
+    public static final String QUIZ_QUESTION_LISTS = "quizQuestionLists";
+    public static final String QUIZ_QUESTIONS = "quizQuestions";
+    public static final String DREAM_PLAN_LISTS = "dreamPlanLists";
+    public static final String DREAM_PLANS = "dreamPlans";
+    public static final String WATERMARKS = "watermarks";
+}
@@ -5,6 +5,8 @@ import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
 
 import java.io.FileInputStream;
@@ -13,8 +15,12 @@ import java.nio.charset.StandardCharsets;
 
 @Slf4j
 @Configuration
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "firebase", matchIfMissing = true)
 public class FirebaseConfig {
 
+    @Value("${app.storage.firebase.bucket}")
+    private String bucketName;
+
     @PostConstruct
     public void initialize() {
         try {
@@ -27,7 +33,7 @@ public class FirebaseConfig {
                 try (FileInputStream serviceAccount = new FileInputStream(serviceAccountPath)) {
                     FirebaseOptions options = FirebaseOptions.builder()
                             .setCredentials(GoogleCredentials.fromStream(serviceAccount))
-                            .setStorageBucket("dogumgunu-3ed67.firebasestorage.app")
+                            .setStorageBucket(bucketName)
                             .build();
 
                     FirebaseApp.initializeApp(options);
@@ -0,0 +1,33 @@
+package com.dogumgunu.backend.common.config;
+
+import java.nio.file.Path;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Yerel depolama seçildiğinde yüklenen dosyaları public URL'leri altından sunar.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+public class LocalStorageWebConfig implements WebMvcConfigurer {
+
+    private final String directory;
+    private final String publicBaseUrl;
+
+    public LocalStorageWebConfig(
+            @Value("${app.storage.local.directory}") String directory,
+            @Value("${app.storage.local.public-url}") String publicBaseUrl) {
+        this.directory = directory;
+        this.publicBaseUrl = publicBaseUrl;
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        String pattern = (publicBaseUrl.endsWith("/") ? publicBaseUrl : publicBaseUrl + "/") + "**";
+        registry.addResourceHandler(pattern)
+                .addResourceLocations(Path.of(directory).toAbsolutePath().normalize().toUri().toString());
+    }
+}
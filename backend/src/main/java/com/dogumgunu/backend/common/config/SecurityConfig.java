@@ -104,6 +104,7 @@ public class SecurityConfig {
         config.setAllowedOriginPatterns(List.of("https://nurcanim.me", "https://*.nurcanim.me","https://www.nurcanim.me"));
         config.setAllowedMethods(List.of("GET","POST","PUT","DELETE","OPTIONS"));
         config.setAllowedHeaders(List.of("*"));
+        config.setExposedHeaders(List.of("ETag", "Retry-After"));
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,18 @@
+package com.dogumgunu.backend.common.domain;
+
+import java.nio.file.Path;
+import org.springframework.http.MediaType;
+
+/**
+ * Yerel medya cache'indeki bir dosya. Nesne adları UUID olduğundan içerik
+ * URL başına değişmez; etag bu yüzden URL'den türetilir. Açık kaldığı sürece
+ * dosya cache'ten silinmez; yanıt bitince kapatılmalıdır.
+ */
+public record CachedMedia(Path file, long size, MediaType contentType, String etag, Runnable release)
+        implements AutoCloseable {
+
+    @Override
+    public void close() {
+        release.run();
+    }
+}
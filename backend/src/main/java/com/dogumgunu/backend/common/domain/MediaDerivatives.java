@@ -0,0 +1,28 @@
+package com.dogumgunu.backend.common.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bir görselden üretilen türevler: genişlik -> URL eşlemesi ve satıra gömülen küçük placeholder.
+ */
+public record MediaDerivatives(Map<String, String> variants, String placeholder) {
+
+    private static final MediaDerivatives NONE = new MediaDerivatives(null, null);
+
+    public static MediaDerivatives none() {
+        return NONE;
+    }
+
+    public boolean isEmpty() {
+        return (variants == null || variants.isEmpty()) && placeholder == null;
+    }
+
+    /**
+     * Depolamada yer kaplayan türevlerin URL'leri; placeholder satırın içinde olduğu için dahil değildir.
+     */
+    public List<String> storedUrls() {
+        return variants == null ? List.of() : new ArrayList<>(variants.values());
+    }
+}
@@ -0,0 +1,9 @@
+package com.dogumgunu.backend.common.domain;
+
+import java.time.Instant;
+
+/**
+ * Depolama listelemesindeki tek bir nesne; URL, upload'ın döndürdüğü public URL ile aynı biçimdedir.
+ */
+public record StoredObjectInfo(String url, Instant createdAt, long size) {
+}
@@ -0,0 +1,23 @@
+package com.dogumgunu.backend.common.domain;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+/**
+ * Bir tablonun (veya tek bir satırın) değişip değişmediğini anlamak için
+ * satır sayısı ve en son updated_at değerinden oluşan ucuz sürüm bilgisi.
+ */
+public record Watermark(long count, OffsetDateTime lastUpdatedAt) {
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public String toETag() {
+        if (lastUpdatedAt == null) {
+            return "\"" + count + "\"";
+        }
+        Instant instant = lastUpdatedAt.toInstant();
+        return "\"" + count + "-" + instant.getEpochSecond() + "." + instant.getNano() + "\"";
+    }
+}
@@ -0,0 +1,86 @@
+package com.dogumgunu.backend.common.json;
+
+import com.dogumgunu.backend.exception.BadRequestException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * JSONB kolonlarının ham metni. Veritabanından okunan değer ağaç olarak
+ * parse edilmez, yanıta olduğu gibi yazılır. Doğrulama sadece yazma yönünde,
+ * istek gövdesi okunurken veya {@link #parse(String)} ile yapılır.
+ */
+@JsonSerialize(using = RawJson.Serializer.class)
+@JsonDeserialize(using = RawJson.Deserializer.class)
+public record RawJson(String json) {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    /**
+     * Veritabanından gelen, zaten geçerli olduğu bilinen JSON metnini sarar.
+     */
+    public static RawJson of(String json) {
+        return json == null ? null : new RawJson(json);
+    }
+
+    /**
+     * Dışarıdan gelen metni token token doğrular ve sıkıştırılmış haliyle sarar.
+     *
+     * @throws BadRequestException metin geçerli bir JSON değeri değilse
+     */
+    public static RawJson parse(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            parser.nextToken();
+            RawJson value = copy(parser);
+            if (parser.nextToken() != null) {
+                throw new BadRequestException("Invalid JSON: multiple root values");
+            }
+            return value;
+        } catch (IOException e) {
+            throw new BadRequestException("Invalid JSON", e);
+        }
+    }
+
+    private static RawJson copy(JsonParser parser) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = FACTORY.createGenerator(writer)) {
+            generator.copyCurrentStructure(parser);
+        }
+        return new RawJson(writer.toString());
+    }
+
+    public static final class Serializer extends StdSerializer<RawJson> {
+
+        public Serializer() {
+            super(RawJson.class);
+        }
+
+        @Override
+        public void serialize(RawJson value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeRawValue(value.json());
+        }
+    }
+
+    public static final class Deserializer extends StdDeserializer<RawJson> {
+
+        public Deserializer() {
+            super(RawJson.class);
+        }
+
+        @Override
+        public RawJson deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return copy(parser);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.dogumgunu.backend.common.pagination;
+
+import com.dogumgunu.backend.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset sayfalama için opak cursor. Sıralama anahtarı ve id birlikte
+ * base64url olarak kodlanır, istemci içeriğini yorumlamaz.
+ */
+public record KeysetCursor(String key, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor, e);
+        }
+        int separatorIndex = raw.lastIndexOf(SEPARATOR);
+        if (separatorIndex <= 0) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+        try {
+            return new KeysetCursor(raw.substring(0, separatorIndex), UUID.fromString(raw.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * İstenen sayfa boyutunu [1, max] aralığına çeker.
+     */
+    public static int clampLimit(Integer requested, int defaultLimit, int maxLimit) {
+        if (requested == null || requested <= 0) {
+            return defaultLimit;
+        }
+        return Math.min(requested, maxLimit);
+    }
+}
@@ -0,0 +1,31 @@
+package com.dogumgunu.backend.common.query;
+
+import com.dogumgunu.backend.exception.BadRequestException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * {@code fields=} query parametresini doğrular. Sonuç her zaman {@code id}
+ * alanını içerir ve istenen sırayı korur.
+ */
+public final class FieldSelection {
+
+    private FieldSelection() {
+    }
+
+    public static Set<String> parse(String fields, Set<String> allowed) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String raw : fields.split(",")) {
+            String field = raw.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(field)) {
+                throw new BadRequestException("Unknown field: " + field);
+            }
+            selected.add(field);
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,141 @@
+package com.dogumgunu.backend.common.web;
+
+import com.dogumgunu.backend.exception.ApiError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Yükleme endpoint'leri için giriş kontrolü. Eşzamanlı yükleme sayısı ve toplam
+ * uçuştaki byte miktarı semaphore'larla sınırlanır; sınır doluysa istek gövdesi
+ * okunmadan 503 + Retry-After döner. Security zincirinden sonra, multipart
+ * çözümlemesinden önce çalışır.
+ */
+@Slf4j
+@Component
+public class UploadAdmissionFilter extends OncePerRequestFilter {
+
+    private static final Set<String> UPLOAD_PATHS = Set.of(
+            "/api/timeline/upload",
+            "/api/timeline/upload/async",
+            "/api/timeline/album");
+    private static final long KB = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final int maxConcurrent;
+    private final int maxInFlightKb;
+    private final int unknownLengthKb;
+    private final long retryAfterSeconds;
+    // Byte bütçesi KB cinsinden tutulur ki int permit sayısına sığsın
+    private final Semaphore uploadSlots;
+    private final Semaphore inFlightKb;
+
+    private final Counter admittedCounter;
+    private final Counter rejectedConcurrencyCounter;
+    private final Counter rejectedBytesCounter;
+
+    public UploadAdmissionFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.upload.admission.max-concurrent}") int maxConcurrent,
+            @Value("${app.upload.admission.max-in-flight}") DataSize maxInFlight,
+            @Value("${spring.servlet.multipart.max-request-size:10MB}") DataSize maxRequestSize,
+            @Value("${app.upload.admission.retry-after}") Duration retryAfter) {
+        this.objectMapper = objectMapper;
+        this.maxConcurrent = maxConcurrent;
+        this.maxInFlightKb = (int) Math.min(Integer.MAX_VALUE, maxInFlight.toKilobytes());
+        this.unknownLengthKb = (int) Math.min(maxInFlightKb, maxRequestSize.toKilobytes());
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        this.uploadSlots = new Semaphore(maxConcurrent);
+        this.inFlightKb = new Semaphore(maxInFlightKb);
+
+        this.admittedCounter = meterRegistry.counter("upload.admission.admitted");
+        this.rejectedConcurrencyCounter = meterRegistry.counter("upload.admission.rejected", "reason", "concurrency");
+        this.rejectedBytesCounter = meterRegistry.counter("upload.admission.rejected", "reason", "bytes");
+        Gauge.builder("upload.admission.active", uploadSlots, slots -> this.maxConcurrent - slots.availablePermits())
+                .register(meterRegistry);
+        Gauge.builder("upload.admission.in-flight.bytes", inFlightKb,
+                        budget -> (double) (this.maxInFlightKb - budget.availablePermits()) * KB)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !UPLOAD_PATHS.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        int cost = costOf(request.getContentLengthLong());
+
+        if (!uploadSlots.tryAcquire()) {
+            rejectedConcurrencyCounter.increment();
+            reject(request, response);
+            return;
+        }
+        if (!inFlightKb.tryAcquire(cost)) {
+            uploadSlots.release();
+            rejectedBytesCounter.increment();
+            reject(request, response);
+            return;
+        }
+
+        admittedCounter.increment();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            inFlightKb.release(cost);
+            uploadSlots.release();
+        }
+    }
+
+    /**
+     * Content-Length bilinmiyorsa (chunked) en kötü durum olan max-request-size düşülür.
+     * Tek başına bütçeden büyük bir istek, sistem boşken yine de kabul edilebilsin diye
+     * maliyet bütçeyle sınırlanır.
+     */
+    private int costOf(long contentLength) {
+        if (contentLength < 0) {
+            return unknownLengthKb;
+        }
+        long kb = (contentLength + KB - 1) / KB;
+        return (int) Math.max(1, Math.min(maxInFlightKb, kb));
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.warn("Upload rejected, admission limits reached: {} {}", request.getMethod(), request.getRequestURI());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        // Gövde okunmadığı için bağlantı yeniden kullanılamaz
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        ApiError error = ApiError.of(HttpStatus.SERVICE_UNAVAILABLE,
+                "Too many uploads in progress, please retry later",
+                request.getRequestURI());
+        objectMapper.writeValue(response.getWriter(), error);
+    }
+}
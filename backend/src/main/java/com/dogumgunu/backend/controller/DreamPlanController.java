@@ -1,5 +1,6 @@
 package com.dogumgunu.backend.controller;
 
+import com.dogumgunu.backend.common.domain.Watermark;
 import com.dogumgunu.backend.dto.DreamPlanDto;
 import com.dogumgunu.backend.enums.PlanStatus;
 import com.dogumgunu.backend.service.DreamPlanService;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/plans")
@@ -26,7 +28,15 @@ public class DreamPlanController {
     private final DreamPlanService service;
 
     @GetMapping
-    public List<DreamPlanDto> listPlans(@RequestParam(required = false) PlanStatus status) {
+    public List<?> listPlans(@RequestParam(required = false) PlanStatus status,
+                             @RequestParam(required = false) String fields,
+                             WebRequest request) {
+        if (request.checkNotModified(service.currentWatermark().toETag())) {
+            return null;
+        }
+        if (fields != null && !fields.isBlank()) {
+            return service.listFields(status, fields);
+        }
         if (status == null) {
             return service.listAll();
         }
@@ -34,7 +44,11 @@ public class DreamPlanController {
     }
 
     @GetMapping("/{id}")
-    public DreamPlanDto getPlan(@PathVariable UUID id) {
+    public DreamPlanDto getPlan(@PathVariable UUID id, WebRequest request) {
+        Watermark watermark = service.watermarkOf(id);
+        if (!watermark.isEmpty() && request.checkNotModified(watermark.toETag())) {
+            return null;
+        }
         return service.getById(id);
     }
 
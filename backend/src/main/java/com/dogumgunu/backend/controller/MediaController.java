@@ -0,0 +1,150 @@
+package com.dogumgunu.backend.controller;
+
+import com.dogumgunu.backend.common.domain.CachedMedia;
+import com.dogumgunu.backend.dto.MediaGcReportDto;
+import com.dogumgunu.backend.service.MediaCacheService;
+import com.dogumgunu.backend.service.MediaGarbageCollector;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * mediaUrl / rewardMediaUrl dosyalarını yerel disk cache'inden sunar.
+ * Tomcat sendfile destekliyorsa gövde doğrudan çekirdekte kopyalanır; Tomcat dosyayı
+ * handler döndükten sonra açtığı için ona yanıta özel bir hard link verilir.
+ */
+@RestController
+@RequestMapping("/api/media")
+@RequiredArgsConstructor
+public class MediaController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final String BYTE_RANGE_PREFIX = "bytes=";
+
+    // Silinen medya tarayıcıda en fazla bu kadar görünür; sonrasında ETag ile yeniden doğrulanır
+    private static final String CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1))
+            .cachePrivate()
+            .getHeaderValue();
+
+    private final MediaCacheService mediaCacheService;
+    private final MediaGarbageCollector mediaGarbageCollector;
+
+    @GetMapping
+    public void serve(@RequestParam("src") String src, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        CachedMedia media = mediaCacheService.open(src);
+        if (media == null) {
+            throw new EntityNotFoundException("Media not found: " + src);
+        }
+        // Gövde yazılana ya da sendfile link'i oluşturulana kadar dosya tahliyeden korunur
+        try (media) {
+            write(media, request, response);
+        }
+    }
+
+    private void write(CachedMedia media, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(media.etag())) {
+            return;
+        }
+
+        long size = media.size();
+        long start = 0;
+        long end = size - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        // RFC 9110: bilinmeyen aralık birimi yok sayılır ve tam yanıt döner
+        if (rangeHeader != null && rangeHeader.startsWith(BYTE_RANGE_PREFIX) && size > 0
+                && (ifRange == null || ifRange.equals(media.etag()))) {
+            List<HttpRange> ranges = parseRanges(rangeHeader);
+            // HttpRange sadece sonu dosya boyuna kırpar; dosyanın dışında başlayan aralık karşılanamaz
+            if (ranges == null || (ranges.size() == 1 && ranges.get(0).getRangeStart(size) >= size)) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            // Çoklu aralık (multipart/byteranges) desteklenmez; RFC 9110 tam yanıta izin verir
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(size);
+                end = ranges.get(0).getRangeEnd(size);
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentType(media.contentType().toString());
+        response.setContentLengthLong(Math.max(length, 0));
+        if (length <= 0 || "HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            Path link = mediaCacheService.link(media);
+            if (link != null) {
+                request.setAttribute(SENDFILE_FILENAME, link.toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, end + 1);
+                return;
+            }
+        }
+
+        // Yedek yol: gövde JVM tamponlarından geçer, dosya yanıt bitene kadar sabit kalır
+        try (FileChannel file = FileChannel.open(media.file(), StandardOpenOption.READ);
+             WritableByteChannel out = Channels.newChannel(response.getOutputStream())) {
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = file.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * @return başlık geçersizse null
+     */
+    private static List<HttpRange> parseRanges(String rangeHeader) {
+        try {
+            return HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Sahipsiz medya temizliğini elle çalıştırır; varsayılan olarak sadece rapor üretir.
+     */
+    @PostMapping("/gc")
+    public MediaGcReportDto collectGarbage(@RequestParam(defaultValue = "true") boolean dryRun) {
+        return mediaGarbageCollector.collect(dryRun);
+    }
+}
@@ -1,13 +1,26 @@
 package com.dogumgunu.backend.controller;
 
+import com.dogumgunu.backend.common.domain.Watermark;
+import com.dogumgunu.backend.dto.CursorPageDto;
+import com.dogumgunu.backend.dto.QuizAnswerDto;
+import com.dogumgunu.backend.dto.QuizAnswerResultDto;
+import com.dogumgunu.backend.dto.QuizAnswerStatsDto;
+import com.dogumgunu.backend.dto.QuizPublicQuestionDto;
 import com.dogumgunu.backend.dto.QuizQuestionDto;
 import com.dogumgunu.backend.dto.QuizResultDto;
+import com.dogumgunu.backend.dto.QuizSessionDto;
+import com.dogumgunu.backend.dto.QuizSessionFinishDto;
+import com.dogumgunu.backend.dto.QuizUserStatsDto;
 import com.dogumgunu.backend.enums.QuizDifficulty;
+import com.dogumgunu.backend.service.QuizAnswerAnalyticsService;
 import com.dogumgunu.backend.service.QuizService;
+import com.dogumgunu.backend.service.QuizSessionService;
+import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -18,6 +31,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/quiz")
@@ -25,9 +39,19 @@ import org.springframework.web.bind.annotation.RestController;
 public class QuizController {
 
     private final QuizService quizService;
+    private final QuizSessionService quizSessionService;
+    private final QuizAnswerAnalyticsService answerAnalyticsService;
 
     @GetMapping("/questions")
-    public List<QuizQuestionDto> listQuestions(@RequestParam(required = false) QuizDifficulty difficulty) {
+    public List<?> listQuestions(@RequestParam(required = false) QuizDifficulty difficulty,
+                                 @RequestParam(required = false) String fields,
+                                 WebRequest request) {
+        if (request.checkNotModified(quizService.currentQuestionWatermark().toETag())) {
+            return null;
+        }
+        if (fields != null && !fields.isBlank()) {
+            return quizService.listQuestionFields(difficulty, fields);
+        }
         if (difficulty == null) {
             return quizService.listAllQuestions();
         }
@@ -35,15 +59,24 @@ public class QuizController {
     }
 
     @GetMapping("/questions/random")
-    public List<QuizQuestionDto> getRandomQuestions(
+    public List<QuizPublicQuestionDto> getRandomQuestions(
             @RequestParam(defaultValue = "5") int count,
             @RequestParam(required = false) QuizDifficulty difficulty
     ) {
         return quizService.getRandomQuestions(count, difficulty);
     }
 
+    @GetMapping("/questions/stats")
+    public List<QuizAnswerStatsDto> getQuestionStats(@RequestParam(defaultValue = "50") int limit) {
+        return answerAnalyticsService.listQuestionStats(limit);
+    }
+
     @GetMapping("/questions/{id}")
-    public QuizQuestionDto getQuestion(@PathVariable UUID id) {
+    public QuizPublicQuestionDto getQuestion(@PathVariable UUID id, WebRequest request) {
+        Watermark watermark = quizService.questionWatermarkOf(id);
+        if (!watermark.isEmpty() && request.checkNotModified(watermark.toETag())) {
+            return null;
+        }
         return quizService.getQuestion(id);
     }
 
@@ -64,14 +97,47 @@ public class QuizController {
         quizService.deleteQuestion(id);
     }
 
-    @PostMapping("/results")
+    @PostMapping("/sessions")
+    @ResponseStatus(HttpStatus.CREATED)
+    public QuizSessionDto startSession(
+            @RequestParam(defaultValue = "5") int count,
+            @RequestParam(required = false) QuizDifficulty difficulty,
+            Authentication authentication
+    ) {
+        return quizSessionService.start(authentication.getName(), count, difficulty);
+    }
+
+    @PostMapping("/sessions/{sessionId}/answers")
+    public QuizAnswerResultDto answer(@PathVariable UUID sessionId,
+                                      @Valid @RequestBody QuizAnswerDto dto,
+                                      Authentication authentication) {
+        return quizSessionService.answer(sessionId, authentication.getName(), dto);
+    }
+
+    // Puan istemciden alınmaz; sonuç sadece oturum bitirilerek kaydedilir
+    @PostMapping("/sessions/{sessionId}/finish")
     @ResponseStatus(HttpStatus.CREATED)
-    public QuizResultDto recordResult(@RequestBody QuizResultDto dto) {
-        return quizService.recordResult(dto);
+    public QuizResultDto finishSession(@PathVariable UUID sessionId,
+                                       @RequestBody(required = false) QuizSessionFinishDto dto,
+                                       Authentication authentication) {
+        String messageShown = dto != null ? dto.messageShown() : null;
+        return quizSessionService.finish(sessionId, authentication.getName(), messageShown);
     }
 
     @GetMapping("/results")
-    public List<QuizResultDto> listResults(@RequestParam String username) {
-        return quizService.listResultsForUser(username);
+    public CursorPageDto<QuizResultDto> listResults(@RequestParam String username,
+                                                    @RequestParam(required = false) String cursor,
+                                                    @RequestParam(required = false) Integer limit) {
+        return quizService.listResultsForUser(username, cursor, limit);
+    }
+
+    @GetMapping("/stats")
+    public QuizUserStatsDto getStats(@RequestParam String username) {
+        return quizService.getUserStats(username);
+    }
+
+    @GetMapping("/leaderboard")
+    public List<QuizUserStatsDto> getLeaderboard(@RequestParam(defaultValue = "10") int limit) {
+        return quizService.getLeaderboard(limit);
     }
 }
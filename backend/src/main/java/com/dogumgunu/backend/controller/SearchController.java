@@ -0,0 +1,26 @@
+package com.dogumgunu.backend.controller;
+
+import com.dogumgunu.backend.dto.SearchResultDto;
+import com.dogumgunu.backend.service.SearchService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    public List<SearchResultDto> search(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        return searchService.search(query, page, size);
+    }
+}
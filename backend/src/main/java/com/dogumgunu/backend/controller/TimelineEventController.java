@@ -1,9 +1,22 @@
 package com.dogumgunu.backend.controller;
 
+import com.dogumgunu.backend.common.domain.MediaDerivatives;
+import com.dogumgunu.backend.common.domain.Watermark;
+import com.dogumgunu.backend.common.json.RawJson;
+import com.dogumgunu.backend.dto.AlbumUploadResultDto;
+import com.dogumgunu.backend.dto.CursorPageDto;
 import com.dogumgunu.backend.dto.TimelineEventDto;
-import com.dogumgunu.backend.service.FirebaseStorageService;
+import com.dogumgunu.backend.dto.TimelineHistogramBucketDto;
+import com.dogumgunu.backend.enums.TimelineInteractionType;
+import com.dogumgunu.backend.service.AlbumUploadService;
+import com.dogumgunu.backend.service.MediaDerivativeService;
+import com.dogumgunu.backend.service.MediaStorageService;
+import com.dogumgunu.backend.service.MediaUploadPipeline;
 import com.dogumgunu.backend.service.TimelineEventService;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.time.LocalDate;
+import java.time.MonthDay;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -18,8 +31,10 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 @RestController
@@ -28,31 +43,79 @@ import org.springframework.web.multipart.MultipartFile;
 public class TimelineEventController {
 
     private final TimelineEventService service;
-    private final FirebaseStorageService firebaseStorageService;
+    private final MediaStorageService mediaStorageService;
+    private final MediaDerivativeService mediaDerivativeService;
+    private final MediaUploadPipeline mediaUploadPipeline;
+    private final AlbumUploadService albumUploadService;
 
     @GetMapping
-    public List<TimelineEventDto> listAll() {
-        return service.listAll();
+    public CursorPageDto<?> listPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+        if (request.checkNotModified(service.currentWatermark().toETag())) {
+            return null;
+        }
+        if (fields != null && !fields.isBlank()) {
+            return service.listPageFields(cursor, limit, fields);
+        }
+        return service.listPage(cursor, limit);
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public void exportNdjson(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Content-Disposition", "attachment; filename=\"timeline.ndjson\"");
+        service.exportNdjson(response.getOutputStream());
+        response.flushBuffer();
     }
 
     @GetMapping("/{id}")
-    public TimelineEventDto getById(@PathVariable UUID id) {
+    public TimelineEventDto getById(@PathVariable UUID id, WebRequest request) {
+        Watermark watermark = service.watermarkOf(id);
+        if (!watermark.isEmpty() && request.checkNotModified(watermark.toETag())) {
+            return null;
+        }
         return service.getById(id);
     }
 
     @GetMapping("/range")
     public List<TimelineEventDto> listBetween(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            WebRequest request) {
+        if (request.checkNotModified(service.currentWatermark().toETag())) {
+            return null;
+        }
         return service.listBetween(startDate, endDate);
     }
 
+    @GetMapping("/on-this-day")
+    public List<TimelineEventDto> listOnThisDay(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LocalDate target = date != null ? date : LocalDate.now();
+        return service.listOnThisDay(MonthDay.from(target));
+    }
+
+    @GetMapping("/histogram")
+    public List<TimelineHistogramBucketDto> monthlyHistogram(
+            @RequestParam(required = false) TimelineInteractionType interactionType) {
+        return service.monthlyHistogram(interactionType);
+    }
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public TimelineEventDto create(@RequestBody TimelineEventDto dto) {
         return service.create(dto);
     }
 
+    @PostMapping("/bulk")
+    public List<TimelineEventDto> bulkUpsert(@RequestBody List<TimelineEventDto> dtos) {
+        return service.bulkUpsert(dtos);
+    }
+
     @PutMapping("/{id}")
     public TimelineEventDto update(@PathVariable UUID id, @RequestBody TimelineEventDto dto) {
         return service.update(id, dto);
@@ -74,28 +137,62 @@ public class TimelineEventController {
             @RequestParam(value = "interactionType", defaultValue = "NONE") String interactionType,
             @RequestParam(value = "interactionPayload", required = false) String interactionPayloadJson) {
 
-        String mediaUrl = firebaseStorageService.uploadFile(file, "timeline");
+        // Payload yüklemeden önce doğrulanır ki geçersiz istekte storage'a dosya bırakılmasın
+        RawJson interactionPayload = RawJson.parse(interactionPayloadJson);
 
-        com.fasterxml.jackson.databind.JsonNode interactionPayload = null;
-        if (interactionPayloadJson != null && !interactionPayloadJson.isEmpty()) {
-            try {
-                com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-                interactionPayload = mapper.readTree(interactionPayloadJson);
-            } catch (Exception e) {
-                throw new RuntimeException("Invalid interaction payload JSON", e);
-            }
-        }
+        String mediaUrl = mediaStorageService.uploadFile(file, "timeline");
+        MediaDerivatives derivatives = mediaDerivativeService.generate(file, "timeline");
+
+        return service.createWithUploadedMedia(List.of(toUploadDto(title, eventDate, description, mediaUrl,
+                derivatives, interactionType, interactionPayload))).get(0);
+    }
 
-        TimelineEventDto dto = new TimelineEventDto(
+    /**
+     * Dosya arka planda yüklenir; olay hemen PENDING medya durumuyla döner.
+     * İstemci mediaStatus READY olana kadar olayı tekrar sorgulayabilir.
+     */
+    @PostMapping(value = "/upload/async", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public TimelineEventDto uploadWithPhotoAsync(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam("title") String title,
+            @RequestParam("eventDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate eventDate,
+            @RequestParam("description") String description,
+            @RequestParam(value = "interactionType", defaultValue = "NONE") String interactionType,
+            @RequestParam(value = "interactionPayload", required = false) String interactionPayloadJson) {
+
+        RawJson interactionPayload = RawJson.parse(interactionPayloadJson);
+
+        TimelineEventDto dto = toUploadDto(title, eventDate, description, null, MediaDerivatives.none(),
+                interactionType, interactionPayload);
+        return mediaUploadPipeline.submit(file, dto, "timeline");
+    }
+
+    /**
+     * Çok dosyalı albüm yüklemesi. "metadata" parçası dosyalarla aynı sırada
+     * TimelineEventDto dizisidir (application/json). Sonuçlar dosya başına döner.
+     */
+    @PostMapping(value = "/album", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public List<AlbumUploadResultDto> uploadAlbum(
+            @RequestPart("files") List<MultipartFile> files,
+            @RequestPart("metadata") List<TimelineEventDto> metadata) {
+        return albumUploadService.upload(files, metadata, "timeline");
+    }
+
+    private TimelineEventDto toUploadDto(String title, LocalDate eventDate, String description, String mediaUrl,
+                                         MediaDerivatives derivatives, String interactionType,
+                                         RawJson interactionPayload) {
+        return new TimelineEventDto(
                 null,
                 title,
                 eventDate,
                 description,
                 mediaUrl,
-                com.dogumgunu.backend.enums.TimelineInteractionType.valueOf(interactionType),
+                null,
+                derivatives.variants(),
+                derivatives.placeholder(),
+                TimelineInteractionType.valueOf(interactionType),
                 interactionPayload
         );
-
-        return service.create(dto);
     }
 }
@@ -0,0 +1,12 @@
+package com.dogumgunu.backend.dto;
+
+/**
+ * Albüm yüklemesinde tek bir dosyanın sonucu; başarılıysa event dolu, değilse error dolu.
+ */
+public record AlbumUploadResultDto(
+        int index,
+        String filename,
+        TimelineEventDto event,
+        String error
+) {
+}
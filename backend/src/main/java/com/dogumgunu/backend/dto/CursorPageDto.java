@@ -0,0 +1,9 @@
+package com.dogumgunu.backend.dto;
+
+import java.util.List;
+
+public record CursorPageDto<T>(
+        List<T> items,
+        String nextCursor
+) {
+}
@@ -0,0 +1,13 @@
+package com.dogumgunu.backend.dto;
+
+public record MediaGcReportDto(
+        boolean dryRun,
+        long scanned,
+        long referenced,
+        long tooRecent,
+        long orphaned,
+        long deleted,
+        long orphanedBytes,
+        long durationMs
+) {
+}
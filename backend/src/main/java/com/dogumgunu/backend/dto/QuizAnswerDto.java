@@ -0,0 +1,10 @@
+package com.dogumgunu.backend.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+
+public record QuizAnswerDto(
+        @NotNull UUID questionId,
+        @NotNull Short selectedOption
+) {
+}
@@ -0,0 +1,13 @@
+package com.dogumgunu.backend.dto;
+
+/**
+ * Sunucuda notlanan cevap; {@code score} oturumun o ana kadarki toplam puanıdır.
+ */
+public record QuizAnswerResultDto(
+        boolean correct,
+        short correctOption,
+        String explanation,
+        int score,
+        int answeredCount
+) {
+}
@@ -0,0 +1,18 @@
+package com.dogumgunu.backend.dto;
+
+import java.util.UUID;
+
+/**
+ * Bir sorunun cevap istatistikleri; süre, soru gösterildikten (ya da önceki cevaptan)
+ * cevaba kadar geçen sunucu tarafı süredir.
+ */
+public record QuizAnswerStatsDto(
+        UUID questionId,
+        String question,
+        long attempts,
+        long correctCount,
+        double correctRate,
+        double averageLatencyMs,
+        int maxLatencyMs
+) {
+}
@@ -0,0 +1,27 @@
+package com.dogumgunu.backend.dto;
+
+import com.dogumgunu.backend.common.json.RawJson;
+import com.dogumgunu.backend.enums.QuizDifficulty;
+import java.util.UUID;
+
+/**
+ * Sorunun istemciye açık hali. {@code correctOption} ve açıklama sadece oturumda
+ * cevap verildikten sonra döner; soru listeleri ve oturumlar bu DTO'yu kullanır.
+ */
+public record QuizPublicQuestionDto(
+        UUID id,
+        String question,
+        RawJson options,
+        String rewardMediaUrl,
+        QuizDifficulty difficulty
+) {
+
+    public static QuizPublicQuestionDto of(QuizQuestionDto question) {
+        return new QuizPublicQuestionDto(
+                question.id(),
+                question.question(),
+                question.options(),
+                question.rewardMediaUrl(),
+                question.difficulty());
+    }
+}
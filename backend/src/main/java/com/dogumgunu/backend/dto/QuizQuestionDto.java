@@ -1,13 +1,13 @@
 package com.dogumgunu.backend.dto;
 
+import com.dogumgunu.backend.common.json.RawJson;
 import com.dogumgunu.backend.enums.QuizDifficulty;
-import com.fasterxml.jackson.databind.JsonNode;
 import java.util.UUID;
 
 public record QuizQuestionDto(
         UUID id,
         String question,
-        JsonNode options,
+        RawJson options,
         Short correctOption,
         String explanation,
         String rewardMediaUrl,
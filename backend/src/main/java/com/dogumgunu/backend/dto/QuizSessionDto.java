@@ -0,0 +1,16 @@
+package com.dogumgunu.backend.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Başlatılan quiz oturumu; sorular doğru cevap olmadan gönderilir.
+ */
+public record QuizSessionDto(
+        UUID sessionId,
+        List<QuizPublicQuestionDto> questions,
+        int pointsPerQuestion,
+        OffsetDateTime expiresAt
+) {
+}
@@ -0,0 +1,6 @@
+package com.dogumgunu.backend.dto;
+
+public record QuizSessionFinishDto(
+        String messageShown
+) {
+}
@@ -0,0 +1,17 @@
+package com.dogumgunu.backend.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Kullanıcının quiz özeti; seri (streak) art arda quiz çözülen UTC günlerini sayar.
+ */
+public record QuizUserStatsDto(
+        String username,
+        int attempts,
+        int bestScore,
+        double averagePercentage,
+        int currentStreak,
+        int longestStreak,
+        LocalDate lastPlayedOn
+) {
+}
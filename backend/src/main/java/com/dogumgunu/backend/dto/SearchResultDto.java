@@ -0,0 +1,13 @@
+package com.dogumgunu.backend.dto;
+
+import com.dogumgunu.backend.enums.SearchResultType;
+import java.util.UUID;
+
+public record SearchResultDto(
+        SearchResultType type,
+        UUID id,
+        String title,
+        String snippet,
+        double rank
+) {
+}
@@ -1,8 +1,10 @@
 package com.dogumgunu.backend.dto;
 
+import com.dogumgunu.backend.common.json.RawJson;
+import com.dogumgunu.backend.enums.MediaStatus;
 import com.dogumgunu.backend.enums.TimelineInteractionType;
-import com.fasterxml.jackson.databind.JsonNode;
 import java.time.LocalDate;
+import java.util.Map;
 import java.util.UUID;
 
 public record TimelineEventDto(
@@ -11,7 +13,10 @@ public record TimelineEventDto(
         LocalDate eventDate,
         String description,
         String mediaUrl,
+        MediaStatus mediaStatus,
+        Map<String, String> mediaVariants,
+        String mediaPlaceholder,
         TimelineInteractionType interactionType,
-        JsonNode interactionPayload
+        RawJson interactionPayload
 ) {
 }
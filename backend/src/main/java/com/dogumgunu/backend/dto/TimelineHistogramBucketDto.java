@@ -0,0 +1,8 @@
+package com.dogumgunu.backend.dto;
+
+public record TimelineHistogramBucketDto(
+        int year,
+        int month,
+        long count
+) {
+}
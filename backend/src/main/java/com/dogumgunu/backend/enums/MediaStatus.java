@@ -0,0 +1,7 @@
+package com.dogumgunu.backend.enums;
+
+public enum MediaStatus {
+    PENDING,
+    READY,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.dogumgunu.backend.enums;
+
+public enum SearchResultType {
+    TIMELINE_EVENT,
+    DREAM_PLAN,
+    QUIZ_QUESTION
+}
@@ -0,0 +1,16 @@
+package com.dogumgunu.backend.exception;
+
+/**
+ * İstemci girdisi geçersiz olduğunda fırlatılır ve 400 olarak döner. Mesaj yanıta
+ * olduğu gibi yazıldığı için sadece istemciye gösterilebilecek metin içermelidir.
+ */
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,16 +1,19 @@
 package com.dogumgunu.backend.mapper;
 
+import com.dogumgunu.backend.dto.QuizPublicQuestionDto;
 import com.dogumgunu.backend.dto.QuizQuestionDto;
 import com.dogumgunu.backend.model.QuizQuestionEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = RawJsonMapper.class)
 public interface QuizQuestionMapper {
 
     QuizQuestionDto toDto(QuizQuestionEntity entity);
 
+    QuizPublicQuestionDto toPublicDto(QuizQuestionEntity entity);
+
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "createdBy", ignore = true)
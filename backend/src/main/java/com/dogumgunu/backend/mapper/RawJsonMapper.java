@@ -0,0 +1,16 @@
+package com.dogumgunu.backend.mapper;
+
+import com.dogumgunu.backend.common.json.RawJson;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface RawJsonMapper {
+
+    default RawJson toRawJson(String json) {
+        return RawJson.of(json);
+    }
+
+    default String toJson(RawJson rawJson) {
+        return rawJson == null ? null : rawJson.json();
+    }
+}
@@ -6,7 +6,7 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = RawJsonMapper.class)
 public interface TimelineEventMapper {
 
     TimelineEventDto toDto(TimelineEventEntity entity);
@@ -15,11 +15,17 @@ public interface TimelineEventMapper {
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "updatedBy", ignore = true)
+    @Mapping(target = "mediaStatus", ignore = true)
+    @Mapping(target = "mediaVariants", ignore = true)
+    @Mapping(target = "mediaPlaceholder", ignore = true)
     TimelineEventEntity toEntity(TimelineEventDto dto);
 
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "updatedBy", ignore = true)
+    @Mapping(target = "mediaStatus", ignore = true)
+    @Mapping(target = "mediaVariants", ignore = true)
+    @Mapping(target = "mediaPlaceholder", ignore = true)
     void updateEntityFromDto(TimelineEventDto dto, @MappingTarget TimelineEventEntity entity);
 }
@@ -2,7 +2,6 @@ package com.dogumgunu.backend.model;
 
 import com.dogumgunu.backend.common.domain.BaseAuditableEntity;
 import com.dogumgunu.backend.enums.QuizDifficulty;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.vladmihalcea.hibernate.type.json.JsonType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -24,7 +23,7 @@ public class QuizQuestionEntity extends BaseAuditableEntity {
 
     @Type(JsonType.class)
     @Column(name = "options", nullable = false, columnDefinition = "jsonb")
-    private JsonNode options;
+    private String options;
 
     @Column(name = "correct_option", nullable = false)
     private Short correctOption;
@@ -1,8 +1,8 @@
 package com.dogumgunu.backend.model;
 
 import com.dogumgunu.backend.common.domain.BaseAuditableEntity;
+import com.dogumgunu.backend.enums.MediaStatus;
 import com.dogumgunu.backend.enums.TimelineInteractionType;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.vladmihalcea.hibernate.type.json.JsonType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,6 +10,7 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
+import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.Type;
@@ -32,11 +33,24 @@ public class TimelineEventEntity extends BaseAuditableEntity {
     @Column(name = "media_url", length = 512)
     private String mediaUrl;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "media_status", nullable = false, length = 16)
+    private MediaStatus mediaStatus = MediaStatus.READY;
+
+    // Genişlik (px) -> küçültülmüş JPEG URL'i
+    @Type(JsonType.class)
+    @Column(name = "media_variants", columnDefinition = "jsonb")
+    private Map<String, String> mediaVariants;
+
+    // Görsel yüklenene kadar gösterilen base64 LQIP (data URI)
+    @Column(name = "media_placeholder", columnDefinition = "TEXT")
+    private String mediaPlaceholder;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "interaction_type", nullable = false, length = 32)
     private TimelineInteractionType interactionType = TimelineInteractionType.NONE;
 
     @Type(JsonType.class)
     @Column(name = "interaction_payload", columnDefinition = "jsonb")
-    private JsonNode interactionPayload;
+    private String interactionPayload;
 }
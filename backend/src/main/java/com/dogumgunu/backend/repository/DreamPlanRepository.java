@@ -1,11 +1,20 @@
 package com.dogumgunu.backend.repository;
 
+import com.dogumgunu.backend.common.domain.Watermark;
 import com.dogumgunu.backend.enums.PlanStatus;
 import com.dogumgunu.backend.model.DreamPlanEntity;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface DreamPlanRepository extends JpaRepository<DreamPlanEntity, UUID> {
     List<DreamPlanEntity> findAllByStatusOrderByTargetDateAsc(PlanStatus status);
+
+    @Query("select new com.dogumgunu.backend.common.domain.Watermark(count(e), max(e.updatedAt)) from DreamPlanEntity e")
+    Watermark findWatermark();
+
+    @Query("select new com.dogumgunu.backend.common.domain.Watermark(count(e), max(e.updatedAt)) from DreamPlanEntity e where e.id = :id")
+    Watermark findWatermarkById(@Param("id") UUID id);
 }
@@ -0,0 +1,107 @@
+package com.dogumgunu.backend.repository;
+
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Bekleyen medya silmeleri. Kayıtlar işlenirken kilit tutulmaz; claim edilen satırların
+ * next_attempt_at değeri lease süresi kadar ileri atılır, süreç çökerse satır tekrar görünür.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MediaDeletionOutboxRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO media_deletion_outbox (media_url) VALUES (:url)
+            """;
+
+    private static final String CLAIM_SQL = """
+            UPDATE media_deletion_outbox
+            SET next_attempt_at = NOW() + make_interval(secs => :leaseSeconds)
+            WHERE id IN (
+                SELECT id FROM media_deletion_outbox
+                WHERE next_attempt_at <= NOW()
+                ORDER BY next_attempt_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id, media_url, attempts, released
+            """;
+
+    private static final String MARK_RELEASED_SQL = """
+            UPDATE media_deletion_outbox SET released = TRUE WHERE id = :id AND NOT released
+            """;
+
+    private static final String DELETE_SQL = """
+            DELETE FROM media_deletion_outbox WHERE id IN (:ids)
+            """;
+
+    private static final String RESCHEDULE_SQL = """
+            UPDATE media_deletion_outbox
+            SET attempts = :attempts,
+                next_attempt_at = NOW() + make_interval(secs => :delaySeconds),
+                last_error = :error
+            WHERE id = :id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void enqueue(Collection<String> urls) {
+        SqlParameterSource[] batch = urls.stream()
+                .map(url -> new MapSqlParameterSource("url", url))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+    }
+
+    public List<OutboxEntry> claimBatch(int limit, long leaseSeconds) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("limit", limit)
+                .addValue("leaseSeconds", leaseSeconds);
+        return jdbcTemplate.query(CLAIM_SQL, params, (rs, rowNum) -> new OutboxEntry(
+                rs.getLong("id"),
+                rs.getString("media_url"),
+                rs.getInt("attempts"),
+                rs.getBoolean("released")
+        ));
+    }
+
+    /**
+     * Kaydın referansını bırakılmış olarak işaretler. Satır kilidi alındığı için aynı kaydı
+     * işleyen ikinci bir dispatcher false alır ve sayacı tekrar düşürmez.
+     */
+    public boolean markReleased(long id) {
+        return jdbcTemplate.update(MARK_RELEASED_SQL, new MapSqlParameterSource("id", id)) > 0;
+    }
+
+    public void deleteAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(DELETE_SQL, new MapSqlParameterSource("ids", ids));
+    }
+
+    public void rescheduleAll(Collection<Retry> retries) {
+        if (retries.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = retries.stream()
+                .map(retry -> new MapSqlParameterSource()
+                        .addValue("id", retry.id())
+                        .addValue("attempts", retry.attempts())
+                        .addValue("delaySeconds", retry.delaySeconds())
+                        .addValue("error", retry.error()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(RESCHEDULE_SQL, batch);
+    }
+
+    public record OutboxEntry(long id, String mediaUrl, int attempts, boolean released) {
+    }
+
+    public record Retry(long id, int attempts, long delaySeconds, String error) {
+    }
+}
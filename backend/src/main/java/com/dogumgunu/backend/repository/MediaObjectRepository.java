@@ -0,0 +1,132 @@
+package com.dogumgunu.backend.repository;
+
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * SHA-256 özeti -> depolama nesnesi eşlemesi ve referans sayaçları.
+ * Sayaç güncellemeleri tek satırlık atomik UPDATE'lerdir; eşzamanlı yüklemelerde
+ * ON CONFLICT ile tek kayıt kazanır.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MediaObjectRepository {
+
+    private static final String ACQUIRE_SQL = """
+            UPDATE media_objects SET ref_count = ref_count + 1, updated_at = NOW()
+            WHERE digest = :digest
+            RETURNING url
+            """;
+
+    private static final String ACQUIRE_URL_SQL = """
+            UPDATE media_objects SET ref_count = ref_count + 1, updated_at = NOW()
+            WHERE url = :url
+            """;
+
+    private static final String REGISTER_SQL = """
+            INSERT INTO media_objects (digest, url, size_bytes, ref_count)
+            VALUES (:digest, :url, :size, 1)
+            ON CONFLICT (digest) DO UPDATE SET ref_count = media_objects.ref_count + 1, updated_at = NOW()
+            RETURNING url
+            """;
+
+    private static final String RELEASE_SQL = """
+            UPDATE media_objects SET ref_count = ref_count - 1, updated_at = NOW()
+            WHERE url = :url AND ref_count > 0
+            RETURNING ref_count
+            """;
+
+    private static final String DELETE_UNREFERENCED_SQL = """
+            DELETE FROM media_objects WHERE url = :url AND ref_count = 0
+            """;
+
+    private static final String DELETE_BY_URLS_SQL = """
+            DELETE FROM media_objects WHERE url IN (:urls)
+            """;
+
+    private static final String EXISTS_SQL = """
+            SELECT COUNT(*) FROM media_objects WHERE url = :url
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Özet zaten kayıtlıysa sayacı artırır ve mevcut URL'i döner, yoksa null.
+     */
+    public String acquire(String digest) {
+        List<String> urls = jdbcTemplate.queryForList(ACQUIRE_SQL, new MapSqlParameterSource("digest", digest), String.class);
+        return urls.isEmpty() ? null : urls.get(0);
+    }
+
+    /**
+     * Mevcut bir URL'e yeni bir satır bağlanırken sayacı artırır.
+     *
+     * @return URL indekste yoksa false; bu nesne bu sistem üzerinden yüklenmemiştir
+     */
+    public boolean acquireUrl(String url) {
+        return jdbcTemplate.update(ACQUIRE_URL_SQL, new MapSqlParameterSource("url", url)) > 0;
+    }
+
+    /**
+     * Yeni yüklenen nesneyi kaydeder. Aynı özet bu arada başkası tarafından
+     * kaydedildiyse onun sayacı artırılır ve onun URL'i döner.
+     */
+    public String register(String digest, String url, long size) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("digest", digest)
+                .addValue("url", url)
+                .addValue("size", size);
+        return jdbcTemplate.queryForObject(REGISTER_SQL, params, String.class);
+    }
+
+    /**
+     * Bir referansı bırakır.
+     *
+     * @return kalan referans sayısı; URL indekste yoksa null
+     */
+    public Integer release(String url) {
+        MapSqlParameterSource params = new MapSqlParameterSource("url", url);
+        List<Integer> remaining = jdbcTemplate.queryForList(RELEASE_SQL, params, Integer.class);
+        if (!remaining.isEmpty()) {
+            return remaining.get(0);
+        }
+        // Sayaç zaten sıfırsa satır vardır ama güncellenmez
+        Long rows = jdbcTemplate.queryForObject(EXISTS_SQL, params, Long.class);
+        return rows != null && rows > 0 ? 0 : null;
+    }
+
+    /**
+     * Bir referansı bırakır; son referanssa indeks kaydı da silinir.
+     *
+     * @return nesne depolamadan silinmeliyse true; URL indekste yoksa (eski yükleme) de true
+     */
+    public boolean releaseForDeletion(String url) {
+        Integer remaining = release(url);
+        if (remaining == null) {
+            return true;
+        }
+        return remaining == 0 && deleteIfUnreferenced(url);
+    }
+
+    /**
+     * Sayaç hâlâ sıfırsa kaydı siler. Arada yeni bir referans alındıysa false döner
+     * ve nesne silinmemelidir.
+     */
+    public boolean deleteIfUnreferenced(String url) {
+        return jdbcTemplate.update(DELETE_UNREFERENCED_SQL, new MapSqlParameterSource("url", url)) > 0;
+    }
+
+    /**
+     * Depolamadan silinen sahipsiz nesnelerin indeks kayıtlarını temizler.
+     */
+    public void deleteByUrls(Collection<String> urls) {
+        if (urls.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(DELETE_BY_URLS_SQL, new MapSqlParameterSource("urls", urls));
+    }
+}
@@ -0,0 +1,42 @@
+package com.dogumgunu.backend.repository;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Depolamadaki nesnelere verilen tüm referansları tek sorguda akıtır.
+ * Entity yüklenmez; her URL satır satır tüketiciye verilir.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MediaReferenceRepository {
+
+    private static final String REFERENCED_URLS_SQL = """
+            SELECT media_url FROM timeline_events WHERE media_url IS NOT NULL
+            UNION ALL
+            SELECT v.value FROM timeline_events t, jsonb_each_text(t.media_variants) v
+            WHERE t.media_variants IS NOT NULL
+            UNION ALL
+            SELECT reward_media_url FROM quiz_questions WHERE reward_media_url IS NOT NULL
+            UNION ALL
+            SELECT media_url FROM media_deletion_outbox
+            UNION ALL
+            SELECT url FROM media_objects WHERE updated_at > NOW() - make_interval(secs => :recentSeconds)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @param recentWindow bu süre içinde tekilleştirme indeksinde referans alınan nesneler de
+     *                     kullanımda sayılır (satırı henüz commit edilmemiş yüklemeler)
+     */
+    public void forEachReferencedUrl(Duration recentWindow, Consumer<String> consumer) {
+        jdbcTemplate.query(REFERENCED_URLS_SQL,
+                new MapSqlParameterSource("recentSeconds", recentWindow.toSeconds()),
+                rs -> consumer.accept(rs.getString(1)));
+    }
+}
@@ -0,0 +1,83 @@
+package com.dogumgunu.backend.repository;
+
+import com.dogumgunu.backend.dto.QuizAnswerStatsDto;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Soru başına cevap sayaçları. Flusher olayları önce bellekte soru başına toplar,
+ * sonra her soru için tek bir upsert'i batch olarak gönderir.
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuizAnswerStatsRepository {
+
+    // Bu arada silinen sorular sessizce atlanır ki tek satır tüm batch'i düşürmesin
+    private static final String UPSERT_SQL = """
+            INSERT INTO quiz_answer_stats (question_id, attempts, correct_count, total_latency_ms, max_latency_ms)
+            SELECT :questionId, :attempts, :correctCount, :totalLatencyMs, :maxLatencyMs
+            WHERE EXISTS (SELECT 1 FROM quiz_questions WHERE id = :questionId)
+            ON CONFLICT (question_id) DO UPDATE SET
+                attempts = quiz_answer_stats.attempts + EXCLUDED.attempts,
+                correct_count = quiz_answer_stats.correct_count + EXCLUDED.correct_count,
+                total_latency_ms = quiz_answer_stats.total_latency_ms + EXCLUDED.total_latency_ms,
+                max_latency_ms = GREATEST(quiz_answer_stats.max_latency_ms, EXCLUDED.max_latency_ms),
+                updated_at = NOW()
+            """;
+
+    // En çok yanlış yapılan sorular önce
+    private static final String LIST_SQL = """
+            SELECT s.question_id, q.question, s.attempts, s.correct_count,
+                   s.correct_count::float8 / s.attempts AS correct_rate,
+                   s.total_latency_ms::float8 / s.attempts AS average_latency_ms,
+                   s.max_latency_ms
+            FROM quiz_answer_stats s
+            JOIN quiz_questions q ON q.id = s.question_id
+            ORDER BY correct_rate, s.attempts DESC
+            LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Tüm batch tek transaction'dadır; yarıda kalan bir flush hiçbir satırı yazmaz,
+     * böylece yazılamadı sayılan olaylar tabloya kısmen de girmemiş olur.
+     */
+    @Transactional
+    public void upsertAll(Collection<Increment> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = increments.stream()
+                .map(increment -> new MapSqlParameterSource()
+                        .addValue("questionId", increment.questionId())
+                        .addValue("attempts", increment.attempts())
+                        .addValue("correctCount", increment.correctCount())
+                        .addValue("totalLatencyMs", increment.totalLatencyMs())
+                        .addValue("maxLatencyMs", increment.maxLatencyMs()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+    }
+
+    public List<QuizAnswerStatsDto> findAll(int limit) {
+        return jdbcTemplate.query(LIST_SQL, new MapSqlParameterSource("limit", limit), (rs, rowNum) -> new QuizAnswerStatsDto(
+                rs.getObject("question_id", UUID.class),
+                rs.getString("question"),
+                rs.getLong("attempts"),
+                rs.getLong("correct_count"),
+                rs.getDouble("correct_rate"),
+                rs.getDouble("average_latency_ms"),
+                rs.getInt("max_latency_ms")
+        ));
+    }
+
+    public record Increment(UUID questionId, long attempts, long correctCount, long totalLatencyMs, int maxLatencyMs) {
+    }
+}
@@ -1,11 +1,20 @@
 package com.dogumgunu.backend.repository;
 
+import com.dogumgunu.backend.common.domain.Watermark;
 import com.dogumgunu.backend.enums.QuizDifficulty;
 import com.dogumgunu.backend.model.QuizQuestionEntity;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface QuizQuestionRepository extends JpaRepository<QuizQuestionEntity, UUID> {
     List<QuizQuestionEntity> findAllByDifficultyOrderByCreatedAtAsc(QuizDifficulty difficulty);
+
+    @Query("select new com.dogumgunu.backend.common.domain.Watermark(count(e), max(e.updatedAt)) from QuizQuestionEntity e")
+    Watermark findWatermark();
+
+    @Query("select new com.dogumgunu.backend.common.domain.Watermark(count(e), max(e.updatedAt)) from QuizQuestionEntity e where e.id = :id")
+    Watermark findWatermarkById(@Param("id") UUID id);
 }
@@ -1,10 +1,33 @@
 package com.dogumgunu.backend.repository;
 
 import com.dogumgunu.backend.model.QuizResultEntity;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface QuizResultRepository extends JpaRepository<QuizResultEntity, UUID> {
-    List<QuizResultEntity> findAllByUsernameOrderByCompletedAtDesc(String username);
+
+    @Query(value = """
+            SELECT * FROM quiz_results
+            WHERE username = :username
+            ORDER BY completed_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<QuizResultEntity> findFirstPageByUsername(@Param("username") String username,
+                                                   @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM quiz_results
+            WHERE username = :username
+              AND (completed_at, id) < (:completedAt, :id)
+            ORDER BY completed_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<QuizResultEntity> findPageByUsernameBefore(@Param("username") String username,
+                                                    @Param("completedAt") OffsetDateTime completedAt,
+                                                    @Param("id") UUID id,
+                                                    @Param("limit") int limit);
 }
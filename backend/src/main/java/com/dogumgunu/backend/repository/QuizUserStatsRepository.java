@@ -0,0 +1,97 @@
+package com.dogumgunu.backend.repository;
+
+import com.dogumgunu.backend.dto.QuizUserStatsDto;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Kullanıcı başına quiz özeti. Her sonuçta tek satırlık atomik bir upsert yapılır;
+ * okumalar geçmişe değil sadece bu tabloya gider.
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuizUserStatsRepository {
+
+    // UPDATE SET ifadeleri satırın eski değerlerini görür; seri hesabı bu yüzden iki kez yazılır
+    private static final String RECORD_SQL = """
+            INSERT INTO quiz_user_stats (username, attempts, best_score, percentage_sum,
+                                         current_streak, longest_streak, last_played_on)
+            VALUES (:username, 1, :score, :percentage, 1, 1, :playedOn)
+            ON CONFLICT (username) DO UPDATE SET
+                attempts = quiz_user_stats.attempts + 1,
+                best_score = GREATEST(quiz_user_stats.best_score, EXCLUDED.best_score),
+                percentage_sum = quiz_user_stats.percentage_sum + EXCLUDED.percentage_sum,
+                current_streak = CASE
+                    WHEN EXCLUDED.last_played_on = quiz_user_stats.last_played_on + 1
+                        THEN quiz_user_stats.current_streak + 1
+                    WHEN EXCLUDED.last_played_on > quiz_user_stats.last_played_on + 1 THEN 1
+                    ELSE quiz_user_stats.current_streak
+                END,
+                longest_streak = GREATEST(quiz_user_stats.longest_streak, CASE
+                    WHEN EXCLUDED.last_played_on = quiz_user_stats.last_played_on + 1
+                        THEN quiz_user_stats.current_streak + 1
+                    ELSE 1
+                END),
+                last_played_on = GREATEST(quiz_user_stats.last_played_on, EXCLUDED.last_played_on),
+                updated_at = NOW()
+            """;
+
+    private static final String SELECT_COLUMNS = """
+            SELECT username, attempts, best_score, percentage_sum / attempts AS average_percentage,
+                   current_streak, longest_streak, last_played_on
+            FROM quiz_user_stats
+            """;
+
+    private static final String FIND_SQL = SELECT_COLUMNS + "WHERE username = :username";
+
+    private static final String LEADERBOARD_SQL = SELECT_COLUMNS + """
+            ORDER BY best_score DESC, percentage_sum / attempts DESC, username
+            LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Bir quiz sonucunu özete ekler; çağıranın transaction'ına katılır.
+     *
+     * @param percentage bu denemenin yüzde puanı (0-100)
+     * @param playedOn   sonucun UTC günü; daha eski bir gün seriyi değiştirmez
+     */
+    public void record(String username, int score, double percentage, LocalDate playedOn) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("username", username)
+                .addValue("score", score)
+                .addValue("percentage", percentage)
+                .addValue("playedOn", playedOn);
+        jdbcTemplate.update(RECORD_SQL, params);
+    }
+
+    public Optional<QuizUserStatsDto> findByUsername(String username) {
+        List<QuizUserStatsDto> rows = jdbcTemplate.query(
+                FIND_SQL, new MapSqlParameterSource("username", username), QuizUserStatsRepository::toDto);
+        return rows.stream().findFirst();
+    }
+
+    public List<QuizUserStatsDto> findLeaderboard(int limit) {
+        return jdbcTemplate.query(
+                LEADERBOARD_SQL, new MapSqlParameterSource("limit", limit), QuizUserStatsRepository::toDto);
+    }
+
+    private static QuizUserStatsDto toDto(ResultSet rs, int rowNum) throws SQLException {
+        return new QuizUserStatsDto(
+                rs.getString("username"),
+                rs.getInt("attempts"),
+                rs.getInt("best_score"),
+                rs.getDouble("average_percentage"),
+                rs.getInt("current_streak"),
+                rs.getInt("longest_streak"),
+                rs.getObject("last_played_on", LocalDate.class));
+    }
+}
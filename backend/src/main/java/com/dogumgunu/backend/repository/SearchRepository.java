@@ -0,0 +1,63 @@
+package com.dogumgunu.backend.repository;
+
+import com.dogumgunu.backend.dto.SearchResultDto;
+import com.dogumgunu.backend.enums.SearchResultType;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Timeline, hayal planları ve quiz soruları üzerinde tek sorguluk tam metin arama.
+ * Birden fazla tabloyu birleştirdiği için tek bir JPA repository'sine ait değildir.
+ * Her dal kendi GIN index'li search_vector kolonunu kullanır; ts_headline yalnızca
+ * sayfadaki satırlar için hesaplanır.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchRepository {
+
+    private static final String SEARCH_SQL = """
+            WITH q AS (SELECT websearch_to_tsquery('turkish', :query) AS query)
+            SELECT hits.type, hits.id, hits.title, hits.rank,
+                   ts_headline('turkish', hits.body, q.query, 'MaxFragments=1, MinWords=5, MaxWords=20') AS snippet
+            FROM (
+                SELECT 'TIMELINE_EVENT' AS type, t.id, t.title, t.description AS body,
+                       ts_rank(t.search_vector, q.query) AS rank
+                FROM timeline_events t, q
+                WHERE t.search_vector @@ q.query
+                UNION ALL
+                SELECT 'DREAM_PLAN', p.id, p.title, concat_ws(' ', p.description, p.extra_notes),
+                       ts_rank(p.search_vector, q.query)
+                FROM dream_plans p, q
+                WHERE p.search_vector @@ q.query
+                UNION ALL
+                SELECT 'QUIZ_QUESTION', z.id, z.question, concat_ws(' ', z.question, z.explanation),
+                       ts_rank(z.search_vector, q.query)
+                FROM quiz_questions z, q
+                WHERE z.search_vector @@ q.query
+                ORDER BY rank DESC, id
+                LIMIT :limit OFFSET :offset
+            ) hits, q
+            ORDER BY hits.rank DESC, hits.id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<SearchResultDto> search(String query, int limit, int offset) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+
+        return jdbcTemplate.query(SEARCH_SQL, params, (rs, rowNum) -> new SearchResultDto(
+                SearchResultType.valueOf(rs.getString("type")),
+                rs.getObject("id", UUID.class),
+                rs.getString("title"),
+                rs.getString("snippet"),
+                rs.getDouble("rank")
+        ));
+    }
+}
@@ -1,11 +1,80 @@
 package com.dogumgunu.backend.repository;
 
+import com.dogumgunu.backend.common.domain.Watermark;
+import com.dogumgunu.backend.enums.MediaStatus;
 import com.dogumgunu.backend.model.TimelineEventEntity;
+import com.dogumgunu.backend.repository.projection.TimelineMonthCountView;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface TimelineEventRepository extends JpaRepository<TimelineEventEntity, UUID> {
     List<TimelineEventEntity> findAllByEventDateBetweenOrderByEventDateAsc(LocalDate startDate, LocalDate endDate);
+
+    @Query(value = """
+            SELECT * FROM timeline_events
+            ORDER BY event_date DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<TimelineEventEntity> findFirstPage(@Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM timeline_events
+            WHERE (event_date, id) < (:eventDate, :id)
+            ORDER BY event_date DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<TimelineEventEntity> findPageBefore(@Param("eventDate") LocalDate eventDate,
+                                             @Param("id") UUID id,
+                                             @Param("limit") int limit);
+
+    /**
+     * {@code monthDay} ay * 100 + gün biçimindedir (örn. 28 Kasım = 1128).
+     * İfade V4 migration'ındaki index ile birebir aynı olmalıdır.
+     */
+    @Query(value = """
+            SELECT * FROM timeline_events
+            WHERE (EXTRACT(MONTH FROM event_date) * 100 + EXTRACT(DAY FROM event_date)) = :monthDay
+            ORDER BY event_date DESC, id DESC
+            """, nativeQuery = true)
+    List<TimelineEventEntity> findAllByMonthDay(@Param("monthDay") int monthDay);
+
+    @Query(value = """
+            SELECT CAST(EXTRACT(YEAR FROM bucket) AS INT) AS year,
+                   CAST(EXTRACT(MONTH FROM bucket) AS INT) AS month,
+                   event_count AS "eventCount"
+            FROM (
+                SELECT date_trunc('month', event_date) AS bucket, COUNT(*) AS event_count
+                FROM timeline_events
+                WHERE CAST(:interactionType AS VARCHAR) IS NULL OR interaction_type = :interactionType
+                GROUP BY bucket
+            ) months
+            ORDER BY bucket
+            """, nativeQuery = true)
+    List<TimelineMonthCountView> countByMonth(@Param("interactionType") String interactionType);
+
+    @Modifying
+    @Query("update TimelineEventEntity e set e.mediaStatus = :to, e.updatedAt = CURRENT_TIMESTAMP where e.mediaStatus = :from")
+    int updateMediaStatus(@Param("from") MediaStatus from, @Param("to") MediaStatus to);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "256"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select e from TimelineEventEntity e order by e.eventDate asc, e.id asc")
+    Stream<TimelineEventEntity> streamAllOrderByEventDate();
+
+    @Query("select new com.dogumgunu.backend.common.domain.Watermark(count(e), max(e.updatedAt)) from TimelineEventEntity e")
+    Watermark findWatermark();
+
+    @Query("select new com.dogumgunu.backend.common.domain.Watermark(count(e), max(e.updatedAt)) from TimelineEventEntity e where e.id = :id")
+    Watermark findWatermarkById(@Param("id") UUID id);
 }
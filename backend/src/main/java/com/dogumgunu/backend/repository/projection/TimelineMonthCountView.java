@@ -0,0 +1,10 @@
+package com.dogumgunu.backend.repository.projection;
+
+public interface TimelineMonthCountView {
+
+    Integer getYear();
+
+    Integer getMonth();
+
+    Long getEventCount();
+}
@@ -0,0 +1,20 @@
+package com.dogumgunu.backend.service;
+
+import com.dogumgunu.backend.dto.AlbumUploadResultDto;
+import com.dogumgunu.backend.dto.TimelineEventDto;
+import java.util.List;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface AlbumUploadService {
+
+    /**
+     * Dosyaları sınırlı eşzamanlılıkla paralel yükler ve başarılı olanların olaylarını
+     * tek bir batch transaction'ında kaydeder. Bir dosyanın hatası diğerlerini durdurmaz.
+     *
+     * @param files yüklenecek dosyalar
+     * @param metadata dosyalarla aynı sırada olay bilgileri; id ve medya alanları yok sayılır
+     * @param folder storage'daki klasör yolu (örn. "timeline")
+     * @return dosya sırasıyla sonuçlar
+     */
+    List<AlbumUploadResultDto> upload(List<MultipartFile> files, List<TimelineEventDto> metadata, String folder);
+}
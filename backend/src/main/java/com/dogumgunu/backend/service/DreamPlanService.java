@@ -1,8 +1,10 @@
 package com.dogumgunu.backend.service;
 
+import com.dogumgunu.backend.common.domain.Watermark;
 import com.dogumgunu.backend.dto.DreamPlanDto;
 import com.dogumgunu.backend.enums.PlanStatus;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface DreamPlanService {
@@ -11,6 +13,13 @@ public interface DreamPlanService {
 
     List<DreamPlanDto> listByStatus(PlanStatus status);
 
+    /**
+     * Sadece {@code fields} içinde virgülle verilen kolonları SQL'de seçer.
+     *
+     * @param status opsiyonel durum filtresi
+     */
+    List<Map<String, Object>> listFields(PlanStatus status, String fields);
+
     DreamPlanDto getById(UUID id);
 
     DreamPlanDto create(DreamPlanDto dto);
@@ -18,4 +27,8 @@ public interface DreamPlanService {
     DreamPlanDto update(UUID id, DreamPlanDto dto);
 
     void delete(UUID id);
+
+    Watermark currentWatermark();
+
+    Watermark watermarkOf(UUID id);
 }
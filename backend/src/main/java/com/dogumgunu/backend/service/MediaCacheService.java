@@ -0,0 +1,32 @@
+package com.dogumgunu.backend.service;
+
+import com.dogumgunu.backend.common.domain.CachedMedia;
+import java.nio.file.Path;
+
+public interface MediaCacheService {
+
+    /**
+     * Medyayı yerel disk cache'inden döner; yoksa depolamadan indirip cache'e ekler.
+     * Cache toplam boyutu aşınca en uzun süredir kullanılmayan dosyalar silinir;
+     * dönen dosya kapatılana kadar silinmez.
+     *
+     * @param mediaUrl mediaUrl / rewardMediaUrl alanlarındaki URL
+     * @return dosya depolamada yoksa veya URL bu depolamaya ait değilse null
+     */
+    CachedMedia open(String mediaUrl);
+
+    /**
+     * Depolamadan silinen medyayı cache'ten çıkarır. Dosya o an sunuluyorsa
+     * son yanıt bitince silinir.
+     */
+    void evict(String mediaUrl);
+
+    /**
+     * Açık (sabitlenmiş) dosya için bu yanıta özel bir hard link oluşturur. Link cache
+     * tahliyesinden etkilenmez ve {@code app.media.cache.link-ttl} sonra silinir; böylece
+     * dosyayı handler döndükten sonra açan Tomcat sendfile'a güvenle verilebilir.
+     *
+     * @return dosya sistemi hard link desteklemiyorsa null
+     */
+    Path link(CachedMedia media);
+}
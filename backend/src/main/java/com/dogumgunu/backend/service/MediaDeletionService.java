@@ -0,0 +1,20 @@
+package com.dogumgunu.backend.service;
+
+import java.util.Collection;
+
+public interface MediaDeletionService {
+
+    /**
+     * Dosyaların silinmesini mevcut transaction içinde outbox'a yazar.
+     * Gerçek silme commit'ten sonra arka planda yapılır; rollback olursa hiç yapılmaz.
+     *
+     * @param urls silinecek medya URL'leri; null ve boş değerler atlanır
+     */
+    void scheduleDeletion(Collection<String> urls);
+
+    /**
+     * Zamanı gelmiş outbox kayıtlarını gruplar hâlinde işler; başarısız olanlar
+     * üstel bekleme ile tekrar denenir.
+     */
+    void dispatchPending();
+}
@@ -0,0 +1,18 @@
+package com.dogumgunu.backend.service;
+
+import com.dogumgunu.backend.common.domain.MediaDerivatives;
+import org.springframework.core.io.InputStreamSource;
+
+public interface MediaDerivativeService {
+
+    /**
+     * Görselden küçültülmüş JPEG varyantları üretip depolamaya yükler ve
+     * satıra gömülecek küçük bir placeholder hazırlar.
+     * Kaynak okunabilir bir görsel değilse (örn. video) veya işlem başarısız olursa
+     * {@link MediaDerivatives#none()} döner; yükleme akışı bu yüzden bozulmaz.
+     *
+     * @param source orijinal dosya
+     * @param folder varyantların yükleneceği storage klasörü
+     */
+    MediaDerivatives generate(InputStreamSource source, String folder);
+}
@@ -0,0 +1,14 @@
+package com.dogumgunu.backend.service;
+
+import com.dogumgunu.backend.dto.MediaGcReportDto;
+
+public interface MediaGarbageCollector {
+
+    /**
+     * Depolamadaki nesneleri veritabanındaki referanslarla karşılaştırır ve
+     * grace süresinden eski sahipsiz nesneleri gruplar hâlinde siler.
+     *
+     * @param dryRun true ise hiçbir şey silinmez, yalnızca rapor üretilir
+     */
+    MediaGcReportDto collect(boolean dryRun);
+}
@@ -0,0 +1,86 @@
+package com.dogumgunu.backend.service;
+
+import com.dogumgunu.backend.common.domain.StoredObjectInfo;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Medya dosyaları için depolama SPI'ı. Kullanılacak implementasyon
+ * {@code app.storage.type} ile seçilir: firebase (varsayılan), local veya memory.
+ */
+public interface MediaStorageService {
+
+    /**
+     * Gerçek depolama backend'lerinin qualifier'ı. Qualifier'sız enjeksiyon
+     * içerik tekilleştirmesi yapan @Primary katmanı alır.
+     */
+    String BACKEND_QUALIFIER = "mediaStorageBackend";
+
+    /**
+     * Dosyayı depolama alanına yükler ve erişim URL'i döner
+     *
+     * @param file yüklenecek multipart dosya
+     * @param folder storage'daki klasör yolu (örn. "timeline")
+     * @return public indirme URL'i
+     */
+    String uploadFile(MultipartFile file, String folder);
+
+    /**
+     * Diskteki bir dosyayı depolama alanına yükler; arka plan işlerinde kullanılır
+     *
+     * @param source yüklenecek yerel dosya (silinmez)
+     * @param originalFilename uzantının alınacağı orijinal dosya adı
+     * @param contentType dosyanın MIME tipi
+     * @param folder storage'daki klasör yolu (örn. "timeline")
+     * @return public indirme URL'i
+     */
+    String uploadFile(Path source, String originalFilename, String contentType, String folder);
+
+    /**
+     * URL'i verilen nesneyi yerel bir dosyaya indirir; medya proxy cache'ini doldurmak için kullanılır
+     *
+     * @param fileUrl daha önce dönen public URL
+     * @param target yazılacak dosya (varsa üzerine yazılır)
+     * @return URL bu depolamaya ait değilse veya nesne yoksa false
+     */
+    boolean downloadTo(String fileUrl, Path target);
+
+    /**
+     * Dosyayı daha önce dönen URL'i kullanarak siler
+     *
+     * @param fileUrl daha önce dönen public URL
+     */
+    void deleteFile(String fileUrl);
+
+    /**
+     * Birden çok dosyayı siler; toplu silme API'si olan backend'ler bunu tek istekte yapar
+     *
+     * @param fileUrls daha önce dönen public URL'ler
+     * @return silme isteği başarıyla tamamlanan URL'ler; hata alanlar listede yer almaz
+     */
+    default List<String> deleteFiles(Collection<String> fileUrls) {
+        List<String> deleted = new ArrayList<>(fileUrls.size());
+        for (String fileUrl : fileUrls) {
+            try {
+                deleteFile(fileUrl);
+                deleted.add(fileUrl);
+            } catch (RuntimeException e) {
+                // Biri başarısız olsa da kalanlar denenir; hatayı deleteFile zaten loglar
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Klasördeki nesneleri sayfa sayfa gezer; bellekte aynı anda yalnızca bir sayfa tutulur
+     *
+     * @param folder storage'daki klasör yolu (örn. "timeline")
+     * @param pageSize sayfa başına nesne sayısı
+     * @param pageConsumer her sayfa için çağrılır
+     */
+    void listObjects(String folder, int pageSize, Consumer<List<StoredObjectInfo>> pageConsumer);
+}
@@ -0,0 +1,20 @@
+package com.dogumgunu.backend.service;
+
+import com.dogumgunu.backend.dto.TimelineEventDto;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface MediaUploadPipeline {
+
+    /**
+     * Dosyayı yerel spool dizinine alır, olayı PENDING medya durumuyla hemen kaydeder
+     * ve depolamaya yüklemeyi arka plandaki sınırlı worker havuzuna bırakır.
+     * Yükleme bitince olay READY (veya tüm denemeler başarısızsa FAILED) olur.
+     *
+     * @param file yüklenecek multipart dosya
+     * @param dto kaydedilecek olay; mediaUrl alanı yok sayılır
+     * @param folder storage'daki klasör yolu (örn. "timeline")
+     * @return PENDING durumundaki kayıtlı olay
+     * @throws org.springframework.web.server.ResponseStatusException 503; bekleyen yükleme sınırı doluysa
+     */
+    TimelineEventDto submit(MultipartFile file, TimelineEventDto dto, String folder);
+}
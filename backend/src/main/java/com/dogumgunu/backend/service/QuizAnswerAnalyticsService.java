@@ -0,0 +1,26 @@
+package com.dogumgunu.backend.service;
+
+import com.dogumgunu.backend.dto.QuizAnswerStatsDto;
+import java.util.List;
+import java.util.UUID;
+
+public interface QuizAnswerAnalyticsService {
+
+    /**
+     * Cevap olayını tampona bırakır ve hemen döner; tampon doluysa olay sayılarak atılır.
+     * İstek thread'i hiçbir zaman beklemez ya da veritabanına gitmez.
+     */
+    void record(UUID questionId, boolean correct, long latencyMillis);
+
+    /**
+     * Tampondaki olayları soru başına toplayıp tek batch upsert ile yazar.
+     *
+     * @return yazılan olay sayısı
+     */
+    int flush();
+
+    /**
+     * En düşük doğru oranına sahip sorular önce.
+     */
+    List<QuizAnswerStatsDto> listQuestionStats(int limit);
+}
@@ -1,18 +1,35 @@
 package com.dogumgunu.backend.service;
 
+import com.dogumgunu.backend.common.domain.Watermark;
+import com.dogumgunu.backend.dto.CursorPageDto;
+import com.dogumgunu.backend.dto.QuizPublicQuestionDto;
 import com.dogumgunu.backend.dto.QuizQuestionDto;
 import com.dogumgunu.backend.dto.QuizResultDto;
+import com.dogumgunu.backend.dto.QuizUserStatsDto;
 import com.dogumgunu.backend.enums.QuizDifficulty;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface QuizService {
 
-    List<QuizQuestionDto> listAllQuestions();
+    /**
+     * Soru okuma metotları cevapsız DTO döner; tam {@link QuizQuestionDto} sadece
+     * oluşturma ve güncelleme yanıtlarında kullanılır.
+     */
+    List<QuizPublicQuestionDto> listAllQuestions();
 
-    List<QuizQuestionDto> listQuestionsByDifficulty(QuizDifficulty difficulty);
+    List<QuizPublicQuestionDto> listQuestionsByDifficulty(QuizDifficulty difficulty);
 
-    QuizQuestionDto getQuestion(UUID id);
+    /**
+     * Sadece {@code fields} içinde virgülle verilen kolonları SQL'de seçer.
+     * {@code correctOption} ve {@code explanation} seçilemez.
+     *
+     * @param difficulty opsiyonel zorluk filtresi
+     */
+    List<Map<String, Object>> listQuestionFields(QuizDifficulty difficulty, String fields);
+
+    QuizPublicQuestionDto getQuestion(UUID id);
 
     QuizQuestionDto createQuestion(QuizQuestionDto dto);
 
@@ -20,9 +37,32 @@ public interface QuizService {
 
     void deleteQuestion(UUID id);
 
+    Watermark currentQuestionWatermark();
+
+    Watermark questionWatermarkOf(UUID id);
+
+    /**
+     * Sonucu kaydeder ve kullanıcının özetini aynı transaction içinde günceller.
+     */
     QuizResultDto recordResult(QuizResultDto dto);
 
-    List<QuizResultDto> listResultsForUser(String username);
+    /**
+     * Kullanıcının sonuçlarını (completedAt, id) üzerinden yeniden eskiye keyset sayfalar.
+     *
+     * @param cursor önceki sayfanın {@code nextCursor} değeri; ilk sayfa için null
+     */
+    CursorPageDto<QuizResultDto> listResultsForUser(String username, String cursor, Integer limit);
+
+    /**
+     * Geçmişi taramadan özet tablodan okur. Son oynanan gün dünden eskiyse
+     * güncel seri 0 döner.
+     */
+    QuizUserStatsDto getUserStats(String username);
+
+    /**
+     * En iyi puana, eşitlikte ortalama yüzdeye göre sıralı ilk {@code limit} kullanıcı.
+     */
+    List<QuizUserStatsDto> getLeaderboard(int limit);
 
-    List<QuizQuestionDto> getRandomQuestions(int count, QuizDifficulty difficulty);
+    List<QuizPublicQuestionDto> getRandomQuestions(int count, QuizDifficulty difficulty);
 }
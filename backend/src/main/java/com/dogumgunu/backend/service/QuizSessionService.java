@@ -0,0 +1,36 @@
+package com.dogumgunu.backend.service;
+
+import com.dogumgunu.backend.dto.QuizAnswerDto;
+import com.dogumgunu.backend.dto.QuizAnswerResultDto;
+import com.dogumgunu.backend.dto.QuizResultDto;
+import com.dogumgunu.backend.dto.QuizSessionDto;
+import com.dogumgunu.backend.enums.QuizDifficulty;
+import java.util.UUID;
+
+public interface QuizSessionService {
+
+    /**
+     * Havuzdan soru seçip bellekte bir oturum açar. Oturum sayısı sınırdaysa
+     * önce süresi dolanlar temizlenir, yine yer yoksa 503 döner.
+     *
+     * @param difficulty null ise tüm sorular
+     */
+    QuizSessionDto start(String username, int count, QuizDifficulty difficulty);
+
+    /**
+     * Cevabı sunucuda notlar; her soru bir kez cevaplanabilir. Veritabanına yazmaz.
+     */
+    QuizAnswerResultDto answer(UUID sessionId, String username, QuizAnswerDto answer);
+
+    /**
+     * Oturumu kapatır ve sunucunun hesapladığı puanla sonucu kaydeder.
+     *
+     * @param messageShown istemcinin gösterdiği mesaj; puanı etkilemez
+     */
+    QuizResultDto finish(UUID sessionId, String username, String messageShown);
+
+    /**
+     * Süresi dolmuş oturumları siler.
+     */
+    void evictExpired();
+}
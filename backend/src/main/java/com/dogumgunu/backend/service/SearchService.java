@@ -0,0 +1,16 @@
+package com.dogumgunu.backend.service;
+
+import com.dogumgunu.backend.dto.SearchResultDto;
+import java.util.List;
+
+public interface SearchService {
+
+    /**
+     * Timeline olayları, hayal planları ve quiz soruları içinde sıralı arama yapar
+     *
+     * @param query kullanıcının yazdığı arama ifadesi (websearch sözdizimi)
+     * @param page 0'dan başlayan sayfa numarası
+     * @param size sayfa boyutu, üst sınırla kırpılır
+     */
+    List<SearchResultDto> search(String query, Integer page, Integer size);
+}
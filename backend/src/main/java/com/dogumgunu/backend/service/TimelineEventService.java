@@ -1,21 +1,93 @@
 package com.dogumgunu.backend.service;
 
+import com.dogumgunu.backend.common.domain.MediaDerivatives;
+import com.dogumgunu.backend.common.domain.Watermark;
+import com.dogumgunu.backend.dto.CursorPageDto;
 import com.dogumgunu.backend.dto.TimelineEventDto;
+import com.dogumgunu.backend.dto.TimelineHistogramBucketDto;
+import com.dogumgunu.backend.enums.MediaStatus;
+import com.dogumgunu.backend.enums.TimelineInteractionType;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.time.MonthDay;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface TimelineEventService {
 
-    List<TimelineEventDto> listAll();
+    CursorPageDto<TimelineEventDto> listPage(String cursor, Integer limit);
+
+    /**
+     * {@link #listPage} ile aynı sıralama ve cursor; ancak sadece {@code fields}
+     * içinde virgülle verilen kolonlar SQL'de seçilir.
+     */
+    CursorPageDto<Map<String, Object>> listPageFields(String cursor, Integer limit, String fields);
 
     TimelineEventDto getById(UUID id);
 
     List<TimelineEventDto> listBetween(LocalDate startDate, LocalDate endDate);
 
+    /**
+     * Yılı ne olursa olsun aynı ay ve güne denk gelen olayları döner.
+     */
+    List<TimelineEventDto> listOnThisDay(MonthDay monthDay);
+
+    /**
+     * Olay sayılarını yıl/ay bazında gruplar; gruplama tek bir SQL sorgusunda yapılır.
+     *
+     * @param interactionType opsiyonel filtre, null ise tüm olaylar sayılır
+     */
+    List<TimelineHistogramBucketDto> monthlyHistogram(TimelineInteractionType interactionType);
+
     TimelineEventDto create(TimelineEventDto dto);
 
+    /**
+     * Id'si olmayanları oluşturur, id'si olanları günceller; hepsi tek transaction'da
+     * JDBC batch olarak yazılır.
+     */
+    List<TimelineEventDto> bulkUpsert(List<TimelineEventDto> dtos);
+
+    /**
+     * Sunucuda yüklenen medyayla olayları tek transaction'da oluşturur. {@code mediaVariants}
+     * ve {@code mediaPlaceholder} sadece bu yoldan yazılır; istemci girdisiyle çağrılmamalıdır.
+     */
+    List<TimelineEventDto> createWithUploadedMedia(List<TimelineEventDto> dtos);
+
+    /**
+     * Medyası arka planda yüklenecek olayı {@link MediaStatus#PENDING} durumuyla kaydeder.
+     */
+    TimelineEventDto createWithPendingMedia(TimelineEventDto dto);
+
+    /**
+     * Arka plan yüklemesinin sonucunu olaya işler.
+     *
+     * @param mediaUrl başarılıysa yüklenen dosyanın URL'i, değilse null
+     * @param derivatives üretilen küçük varyantlar ve placeholder
+     * @param status {@link MediaStatus#READY} veya {@link MediaStatus#FAILED}
+     */
+    void completeMediaUpload(UUID id, String mediaUrl, MediaDerivatives derivatives, MediaStatus status);
+
+    /**
+     * Hâlâ PENDING durumundaki tüm olayları FAILED yapar; yeniden başlatma sonrası kullanılır.
+     *
+     * @return güncellenen satır sayısı
+     */
+    int failPendingMediaUploads();
+
     TimelineEventDto update(UUID id, TimelineEventDto dto);
 
     void delete(UUID id);
+
+    Watermark currentWatermark();
+
+    Watermark watermarkOf(UUID id);
+
+    /**
+     * Tüm timeline olaylarını satır satır NDJSON olarak verilen akışa yazar.
+     * Sonuç kümesi bellekte biriktirilmez.
+     *
+     * @param out yazılacak çıktı akışı (kapatılmaz)
+     */
+    void exportNdjson(OutputStream out);
 }
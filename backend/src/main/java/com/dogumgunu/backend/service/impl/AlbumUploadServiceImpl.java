@@ -0,0 +1,169 @@
+package com.dogumgunu.backend.service.impl;
+
+import com.dogumgunu.backend.common.domain.MediaDerivatives;
+import com.dogumgunu.backend.dto.AlbumUploadResultDto;
+import com.dogumgunu.backend.dto.TimelineEventDto;
+import com.dogumgunu.backend.enums.TimelineInteractionType;
+import com.dogumgunu.backend.exception.BadRequestException;
+import com.dogumgunu.backend.service.AlbumUploadService;
+import com.dogumgunu.backend.service.MediaDeletionService;
+import com.dogumgunu.backend.service.MediaDerivativeService;
+import com.dogumgunu.backend.service.MediaStorageService;
+import com.dogumgunu.backend.service.TimelineEventService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Albüm yüklemesi: her dosya kendi virtual thread'inde yüklenir, eşzamanlı transfer
+ * sayısı istek başına semaphore ile sınırlanır. Satırlar en sonda tek bulkUpsert
+ * çağrısıyla (Hibernate JDBC batch) eklenir.
+ */
+@Slf4j
+@Service
+public class AlbumUploadServiceImpl implements AlbumUploadService {
+
+    private final MediaStorageService mediaStorageService;
+    private final MediaDerivativeService mediaDerivativeService;
+    private final MediaDeletionService mediaDeletionService;
+    private final TimelineEventService timelineEventService;
+    private final int concurrency;
+    private final int maxFiles;
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("album-upload-", 0).factory());
+
+    public AlbumUploadServiceImpl(
+            MediaStorageService mediaStorageService,
+            MediaDerivativeService mediaDerivativeService,
+            MediaDeletionService mediaDeletionService,
+            TimelineEventService timelineEventService,
+            @Value("${app.upload.album.concurrency}") int concurrency,
+            @Value("${app.upload.album.max-files}") int maxFiles) {
+        this.mediaStorageService = mediaStorageService;
+        this.mediaDerivativeService = mediaDerivativeService;
+        this.mediaDeletionService = mediaDeletionService;
+        this.timelineEventService = timelineEventService;
+        this.concurrency = concurrency;
+        this.maxFiles = maxFiles;
+    }
+
+    @Override
+    public List<AlbumUploadResultDto> upload(List<MultipartFile> files, List<TimelineEventDto> metadata, String folder) {
+        if (files == null || files.isEmpty()) {
+            throw new BadRequestException("At least one file is required");
+        }
+        if (files.size() > maxFiles) {
+            throw new BadRequestException("At most " + maxFiles + " files can be uploaded per album");
+        }
+        if (metadata == null || metadata.size() != files.size()) {
+            throw new BadRequestException("Exactly one metadata entry is required per file");
+        }
+
+        Semaphore permits = new Semaphore(concurrency);
+        List<CompletableFuture<UploadedFile>> uploads = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            uploads.add(CompletableFuture.supplyAsync(() -> transfer(file, folder, permits), executor));
+        }
+
+        List<AlbumUploadResultDto> results = new ArrayList<>(files.size());
+        List<Integer> uploadedIndexes = new ArrayList<>();
+        List<UploadedFile> uploadedFiles = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            String filename = files.get(i).getOriginalFilename();
+            try {
+                uploadedFiles.add(uploads.get(i).join());
+                uploadedIndexes.add(i);
+                results.add(null);
+            } catch (RuntimeException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("Album file {} ({}) failed to upload", i, filename, cause);
+                results.add(new AlbumUploadResultDto(i, filename, null, "File upload failed"));
+            }
+        }
+
+        if (uploadedFiles.isEmpty()) {
+            return results;
+        }
+
+        List<TimelineEventDto> events = new ArrayList<>(uploadedFiles.size());
+        for (int j = 0; j < uploadedFiles.size(); j++) {
+            events.add(toEvent(metadata.get(uploadedIndexes.get(j)), uploadedFiles.get(j)));
+        }
+
+        List<TimelineEventDto> saved;
+        try {
+            saved = timelineEventService.createWithUploadedMedia(events);
+        } catch (RuntimeException e) {
+            log.error("Failed to save album events", e);
+            // Satırlar yazılamadıysa yüklenen dosyalar sahipsiz kalmasın
+            mediaDeletionService.scheduleDeletion(uploadedFiles.stream()
+                    .flatMap(uploaded -> uploaded.storedUrls().stream())
+                    .toList());
+            for (int index : uploadedIndexes) {
+                results.set(index, new AlbumUploadResultDto(index, files.get(index).getOriginalFilename(), null,
+                        "Event could not be saved"));
+            }
+            return results;
+        }
+
+        for (int j = 0; j < saved.size(); j++) {
+            int index = uploadedIndexes.get(j);
+            results.set(index, new AlbumUploadResultDto(index, files.get(index).getOriginalFilename(), saved.get(j), null));
+        }
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private UploadedFile transfer(MultipartFile file, String folder, Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Upload interrupted", e);
+        }
+        try {
+            String mediaUrl = mediaStorageService.uploadFile(file, folder);
+            MediaDerivatives derivatives = mediaDerivativeService.generate(file, folder);
+            return new UploadedFile(mediaUrl, derivatives);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static TimelineEventDto toEvent(TimelineEventDto metadata, UploadedFile uploaded) {
+        return new TimelineEventDto(
+                null,
+                metadata.title(),
+                metadata.eventDate(),
+                metadata.description(),
+                uploaded.mediaUrl(),
+                null,
+                uploaded.derivatives().variants(),
+                uploaded.derivatives().placeholder(),
+                metadata.interactionType() != null ? metadata.interactionType() : TimelineInteractionType.NONE,
+                metadata.interactionPayload()
+        );
+    }
+
+    private record UploadedFile(String mediaUrl, MediaDerivatives derivatives) {
+
+        List<String> storedUrls() {
+            List<String> urls = new ArrayList<>(derivatives.storedUrls());
+            urls.add(mediaUrl);
+            return urls;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.dogumgunu.backend.service.impl;
+
+import com.dogumgunu.backend.common.domain.StoredObjectInfo;
+import com.dogumgunu.backend.repository.MediaObjectRepository;
+import com.dogumgunu.backend.service.MediaStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Seçili depolama backend'inin önüne geçen tekilleştirme katmanı. İçerik yüklemeden
+ * önce yerel kopya üzerinden SHA-256 ile özetlenir; aynı içerik zaten depodaysa
+ * byte'lar tekrar gönderilmez, mevcut URL'in referans sayacı artırılır.
+ */
+@Slf4j
+@Primary
+@Service
+public class ContentAddressedStorageServiceImpl implements MediaStorageService {
+
+    private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
+
+    private final MediaStorageService delegate;
+    private final MediaObjectRepository mediaObjectRepository;
+
+    public ContentAddressedStorageServiceImpl(
+            @Qualifier(MediaStorageService.BACKEND_QUALIFIER) MediaStorageService delegate,
+            MediaObjectRepository mediaObjectRepository) {
+        this.delegate = delegate;
+        this.mediaObjectRepository = mediaObjectRepository;
+    }
+
+    @Override
+    public String uploadFile(MultipartFile file, String folder) {
+        return store(digestOf(file), file.getSize(), () -> delegate.uploadFile(file, folder));
+    }
+
+    @Override
+    public String uploadFile(Path source, String originalFilename, String contentType, String folder) {
+        FileSystemResource resource = new FileSystemResource(source);
+        long size;
+        try {
+            size = resource.contentLength();
+        } catch (IOException e) {
+            log.error("Failed to read file for upload: {}", source, e);
+            throw new RuntimeException("File upload failed", e);
+        }
+        return store(digestOf(resource), size,
+                () -> delegate.uploadFile(source, originalFilename, contentType, folder));
+    }
+
+    private String store(String digest, long size, Supplier<String> upload) {
+        String existing = mediaObjectRepository.acquire(digest);
+        if (existing != null) {
+            log.info("Reusing stored object for digest {}: {}", digest, existing);
+            return existing;
+        }
+
+        String uploaded = upload.get();
+        String registered = mediaObjectRepository.register(digest, uploaded, size);
+        if (!registered.equals(uploaded)) {
+            // Aynı içerik eşzamanlı yüklendi; kazanan kayıt kullanılır, bizim kopyamız silinir
+            try {
+                delegate.deleteFile(uploaded);
+            } catch (RuntimeException e) {
+                log.warn("Could not remove duplicate upload {}", uploaded, e);
+            }
+        }
+        return registered;
+    }
+
+    @Override
+    public boolean downloadTo(String fileUrl, Path target) {
+        return delegate.downloadTo(fileUrl, target);
+    }
+
+    @Override
+    public void listObjects(String folder, int pageSize, Consumer<List<StoredObjectInfo>> pageConsumer) {
+        delegate.listObjects(folder, pageSize, pageConsumer);
+    }
+
+    @Override
+    public void deleteFile(String fileUrl) {
+        if (fileUrl == null || fileUrl.isBlank()) {
+            return;
+        }
+
+        if (mediaObjectRepository.releaseForDeletion(fileUrl)) {
+            delegate.deleteFile(fileUrl);
+        } else {
+            log.info("Object still referenced, keeping: {}", fileUrl);
+        }
+    }
+
+    private static String digestOf(InputStreamSource source) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        try (InputStream in = source.getInputStream()) {
+            byte[] buffer = new byte[DIGEST_BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            log.error("Failed to hash upload", e);
+            throw new RuntimeException("File upload failed", e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
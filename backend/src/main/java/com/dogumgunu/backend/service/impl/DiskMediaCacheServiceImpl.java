@@ -0,0 +1,328 @@
+package com.dogumgunu.backend.service.impl;
+
+import com.dogumgunu.backend.common.domain.CachedMedia;
+import com.dogumgunu.backend.service.MediaCacheService;
+import com.dogumgunu.backend.service.MediaStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Boyutu sınırlı, LRU sıralı disk cache'i. Dosya adı URL'in SHA-256'sıdır;
+ * aynı anda gelen miss'ler tek bir indirmeyi paylaşır. Sunulmakta olan dosyalar
+ * sabitlenir: LRU tahliyesi onları atlar, silinen medyanın dosyası son yanıt bitince silinir.
+ * Sendfile ile sunulan dosyalar yanıt başına bir hard link üzerinden verilir; link süre
+ * dolunca silinir, cache dosyası bu arada tahliye edilse bile içerik link'te kalır.
+ */
+@Slf4j
+@Service
+public class DiskMediaCacheServiceImpl implements MediaCacheService {
+
+    private static final String PARTIAL_MARKER = ".part-";
+    private static final String LINK_DIRECTORY = ".links";
+    private static final Pattern SAFE_EXTENSION = Pattern.compile("\\.[A-Za-z0-9]{1,8}");
+
+    private final MediaStorageService mediaStorageService;
+    private final Path directory;
+    private final Path linkDirectory;
+    private final long maxBytes;
+    private final Duration linkTtl;
+
+    // accessOrder=true: iterasyonun başı en uzun süredir kullanılmayan dosya
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<String, CompletableFuture<Long>> inFlight = new ConcurrentHashMap<>();
+    // İndirme sürerken silinen medya; indirme bitince cache'e eklenmez
+    private final Set<String> invalidated = new HashSet<>();
+    private long totalBytes;
+
+    public DiskMediaCacheServiceImpl(
+            MediaStorageService mediaStorageService,
+            @Value("${app.media.cache.directory}") String directory,
+            @Value("${app.media.cache.max-size}") DataSize maxSize,
+            @Value("${app.media.cache.link-ttl}") Duration linkTtl) throws IOException {
+        this.mediaStorageService = mediaStorageService;
+        this.directory = Files.createDirectories(Path.of(directory).toAbsolutePath().normalize());
+        this.linkDirectory = Files.createDirectories(this.directory.resolve(LINK_DIRECTORY));
+        this.maxBytes = maxSize.toBytes();
+        this.linkTtl = linkTtl;
+        rebuildIndex();
+        // Önceki çalışmadan kalan link'leri sunan bir yanıt artık yok
+        deleteLinksOlderThan(Long.MAX_VALUE);
+    }
+
+    @Override
+    public CachedMedia open(String mediaUrl) {
+        String key = keyOf(mediaUrl);
+        Entry entry = pin(key);
+        if (entry == null) {
+            entry = fill(mediaUrl, key);
+            if (entry == null) {
+                return null;
+            }
+        }
+        MediaType contentType = MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        Entry pinned = entry;
+        return new CachedMedia(directory.resolve(key), entry.size, contentType, "\"" + key + "\"",
+                () -> unpin(key, pinned));
+    }
+
+    @Override
+    public synchronized void evict(String mediaUrl) {
+        if (mediaUrl == null || mediaUrl.isBlank()) {
+            return;
+        }
+        String key = keyOf(mediaUrl);
+        if (inFlight.containsKey(key)) {
+            invalidated.add(key);
+        }
+        Entry entry = entries.remove(key);
+        if (entry == null) {
+            return;
+        }
+        totalBytes -= entry.size;
+        if (entry.pins > 0) {
+            entry.evicted = true;
+        } else {
+            deleteQuietly(directory.resolve(key));
+        }
+        log.debug("Evicted deleted media {} from cache", mediaUrl);
+    }
+
+    @Override
+    public Path link(CachedMedia media) {
+        // Ad oluşturma zamanını taşır; hard link'in mtime'ı kaynak dosyanınkidir
+        Path link = linkDirectory.resolve(System.currentTimeMillis() + "-" + UUID.randomUUID());
+        try {
+            return Files.createLink(link, media.file());
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            log.debug("Hard link not available for {}, falling back to copying", media.file(), e);
+            return null;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.media.cache.link-ttl}")
+    public void sweepLinks() {
+        deleteLinksOlderThan(System.currentTimeMillis() - linkTtl.toMillis());
+    }
+
+    private void deleteLinksOlderThan(long cutoffMillis) {
+        try (Stream<Path> listing = Files.list(linkDirectory)) {
+            // Açık bir link silinse de POSIX'te aktarım sürer; Windows'ta silme bir sonraki turda tekrar denenir
+            listing.filter(link -> createdAtOf(link) < cutoffMillis).forEach(this::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("Could not sweep media cache links", e);
+        }
+    }
+
+    private static long createdAtOf(Path link) {
+        String name = link.getFileName().toString();
+        int separator = name.indexOf('-');
+        try {
+            return separator > 0 ? Long.parseLong(name.substring(0, separator)) : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * İndiren thread sabitlenmiş kaydı alır; aynı indirmeyi bekleyenler bittikten sonra kendileri sabitler.
+     */
+    private Entry fill(String mediaUrl, String key) {
+        CompletableFuture<Long> download = new CompletableFuture<>();
+        CompletableFuture<Long> existing = inFlight.putIfAbsent(key, download);
+        if (existing != null) {
+            return existing.join() != null ? pin(key) : null;
+        }
+        try {
+            // Bu thread slotu alana kadar başka bir indirme bitmiş olabilir
+            Entry entry = pin(key);
+            if (entry == null) {
+                entry = download(mediaUrl, key);
+            }
+            download.complete(entry != null ? entry.size : null);
+            return entry;
+        } catch (RuntimeException e) {
+            download.completeExceptionally(e);
+            throw e;
+        } finally {
+            finishDownload(key);
+        }
+    }
+
+    private Entry download(String mediaUrl, String key) {
+        Path target = directory.resolve(key);
+        Path partial = directory.resolve(key + PARTIAL_MARKER + UUID.randomUUID());
+        try {
+            if (!mediaStorageService.downloadTo(mediaUrl, partial)) {
+                Files.deleteIfExists(partial);
+                return null;
+            }
+            long size = Files.size(partial);
+            Entry entry = publish(key, partial, target, size);
+            if (entry != null) {
+                log.debug("Cached media {} ({} bytes)", mediaUrl, size);
+            }
+            return entry;
+        } catch (IOException e) {
+            deleteQuietly(partial);
+            log.error("Failed to cache media {}", mediaUrl, e);
+            throw new RuntimeException("Media download failed", e);
+        } catch (RuntimeException e) {
+            deleteQuietly(partial);
+            throw e;
+        }
+    }
+
+    private synchronized Entry pin(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.pins++;
+        }
+        return entry;
+    }
+
+    private synchronized void unpin(String key, Entry entry) {
+        entry.pins--;
+        // Sunulurken silinen dosya; aynı anahtar yeniden indirildiyse dosya artık yenisidir
+        if (entry.pins == 0 && entry.evicted && !entries.containsKey(key)) {
+            deleteQuietly(directory.resolve(key));
+        }
+    }
+
+    /**
+     * İndirilen dosyayı yerine taşır ve sabitlenmiş olarak kaydeder. İndirme sürerken
+     * medya silindiyse dosya atılır ve null döner.
+     */
+    private synchronized Entry publish(String key, Path partial, Path target, long size) throws IOException {
+        if (invalidated.remove(key)) {
+            Files.deleteIfExists(partial);
+            return null;
+        }
+        Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        Entry entry = register(key, size);
+        entry.pins++;
+        return entry;
+    }
+
+    private synchronized void finishDownload(String key) {
+        inFlight.remove(key);
+        invalidated.remove(key);
+    }
+
+    private synchronized Entry register(String key, long size) {
+        Entry entry = new Entry(size);
+        Entry previous = entries.put(key, entry);
+        totalBytes += size - (previous != null ? previous.size : 0);
+
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Entry> candidate = eldest.next();
+            // Yeni eklenen dosya tek başına sınırı aşıyorsa bile bu istekte sunulabilmeli;
+            // sunulmakta olan dosyalar da atlanır, sınır bir sonraki eklemede tekrar denenir
+            if (candidate.getKey().equals(key) || candidate.getValue().pins > 0) {
+                continue;
+            }
+            eldest.remove();
+            totalBytes -= candidate.getValue().size;
+            deleteQuietly(directory.resolve(candidate.getKey()));
+        }
+        return entry;
+    }
+
+    /**
+     * Yeniden başlatmada cache'i korur; erişim sırası bilinmediği için
+     * dosyalar son değişiklik zamanına göre sıralanır.
+     */
+    private void rebuildIndex() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(Files::isRegularFile).toList();
+        }
+        files.stream()
+                .filter(file -> file.getFileName().toString().contains(PARTIAL_MARKER))
+                .forEach(this::deleteQuietly);
+        files.stream()
+                .filter(file -> !file.getFileName().toString().contains(PARTIAL_MARKER))
+                .sorted(Comparator.comparing(this::lastModified))
+                .forEach(file -> register(file.getFileName().toString(), sizeOf(file)));
+        log.info("Media cache ready: {} files, {} bytes", entries.size(), totalBytes);
+    }
+
+    private static String keyOf(String mediaUrl) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(mediaUrl.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest) + extensionOf(mediaUrl);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String extensionOf(String mediaUrl) {
+        int queryIndex = mediaUrl.indexOf('?');
+        String path = queryIndex != -1 ? mediaUrl.substring(0, queryIndex) : mediaUrl;
+        String extension = StorageObjectNames.extensionOf(path.substring(path.lastIndexOf('/') + 1));
+        return SAFE_EXTENSION.matcher(extension).matches() ? extension.toLowerCase() : "";
+    }
+
+    private long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not remove cached media {}", path, e);
+        }
+    }
+
+    private static final class Entry {
+
+        private final long size;
+        // Sadece cache monitörü altında okunur ve yazılır
+        private int pins;
+        private boolean evicted;
+
+        private Entry(long size) {
+            this.size = size;
+        }
+    }
+}
@@ -1,15 +1,26 @@
 package com.dogumgunu.backend.service.impl;
 
+import com.dogumgunu.backend.common.config.CacheConfig;
+import com.dogumgunu.backend.common.domain.Watermark;
+import com.dogumgunu.backend.common.query.FieldSelection;
 import com.dogumgunu.backend.dto.DreamPlanDto;
 import com.dogumgunu.backend.enums.PlanStatus;
 import com.dogumgunu.backend.mapper.DreamPlanMapper;
 import com.dogumgunu.backend.model.DreamPlanEntity;
 import com.dogumgunu.backend.repository.DreamPlanRepository;
+import com.dogumgunu.backend.repository.FieldProjectionRepository;
 import com.dogumgunu.backend.service.DreamPlanService;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,10 +29,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class DreamPlanServiceImpl implements DreamPlanService {
 
+    private static final Set<String> SELECTABLE_FIELDS = Set.of(
+            "id", "title", "description", "targetDate", "status", "extraNotes");
+
     private final DreamPlanRepository repository;
+    private final FieldProjectionRepository fieldProjectionRepository;
     private final DreamPlanMapper mapper;
 
     @Override
+    @Cacheable(value = CacheConfig.DREAM_PLAN_LISTS, key = "'ALL'")
     public List<DreamPlanDto> listAll() {
         return repository.findAll()
                 .stream()
@@ -30,6 +46,7 @@ public class DreamPlanServiceImpl implements DreamPlanService {
     }
 
     @Override
+    @Cacheable(value = CacheConfig.DREAM_PLAN_LISTS, key = "#status.name()")
     public List<DreamPlanDto> listByStatus(PlanStatus status) {
         return repository.findAllByStatusOrderByTargetDateAsc(status)
                 .stream()
@@ -38,12 +55,29 @@ public class DreamPlanServiceImpl implements DreamPlanService {
     }
 
     @Override
+    @Cacheable(value = CacheConfig.DREAM_PLAN_LISTS,
+            key = "(#status != null ? #status.name() : 'ALL') + ':' + #fields")
+    public List<Map<String, Object>> listFields(PlanStatus status, String fields) {
+        Set<String> selected = FieldSelection.parse(fields, SELECTABLE_FIELDS);
+        Specification<DreamPlanEntity> byStatus = status == null
+                ? null
+                : (root, query, cb) -> cb.equal(root.get("status"), status);
+        return fieldProjectionRepository.findFields(
+                DreamPlanEntity.class, selected, byStatus, Sort.by("targetDate"), 0);
+    }
+
+    @Override
+    @Cacheable(value = CacheConfig.DREAM_PLANS, key = "#id")
     public DreamPlanDto getById(UUID id) {
         return mapper.toDto(findEntity(id));
     }
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.DREAM_PLAN_LISTS, allEntries = true),
+            @CacheEvict(value = CacheConfig.WATERMARKS, key = "'plans'")
+    })
     public DreamPlanDto create(DreamPlanDto dto) {
         DreamPlanEntity entity = mapper.toEntity(dto);
         return mapper.toDto(repository.save(entity));
@@ -51,6 +85,11 @@ public class DreamPlanServiceImpl implements DreamPlanService {
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.DREAM_PLANS, key = "#id"),
+            @CacheEvict(value = CacheConfig.DREAM_PLAN_LISTS, allEntries = true),
+            @CacheEvict(value = CacheConfig.WATERMARKS, key = "'plans'")
+    })
     public DreamPlanDto update(UUID id, DreamPlanDto dto) {
         DreamPlanEntity entity = findEntity(id);
         mapper.updateEntityFromDto(dto, entity);
@@ -59,11 +98,27 @@ public class DreamPlanServiceImpl implements DreamPlanService {
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.DREAM_PLANS, key = "#id"),
+            @CacheEvict(value = CacheConfig.DREAM_PLAN_LISTS, allEntries = true),
+            @CacheEvict(value = CacheConfig.WATERMARKS, key = "'plans'")
+    })
     public void delete(UUID id) {
         DreamPlanEntity entity = findEntity(id);
         repository.delete(entity);
     }
 
+    @Override
+    @Cacheable(value = CacheConfig.WATERMARKS, key = "'plans'")
+    public Watermark currentWatermark() {
+        return repository.findWatermark();
+    }
+
+    @Override
+    public Watermark watermarkOf(UUID id) {
+        return repository.findWatermarkById(id);
+    }
+
     private DreamPlanEntity findEntity(UUID id) {
         return repository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Dream plan not found: " + id));
@@ -1,46 +1,85 @@
 package com.dogumgunu.backend.service.impl;
 
-import com.dogumgunu.backend.service.FirebaseStorageService;
+import com.dogumgunu.backend.common.domain.StoredObjectInfo;
+import com.dogumgunu.backend.service.MediaStorageService;
+import com.google.api.gax.paging.Page;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import com.google.firebase.cloud.StorageClient;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
-public class FirebaseStorageServiceImpl implements FirebaseStorageService {
+@Qualifier(MediaStorageService.BACKEND_QUALIFIER)
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseStorageServiceImpl implements MediaStorageService {
 
-    private static final String BUCKET_NAME = "dogumgunu-3ed67.firebasestorage.app";
+    // Bu boyutun altındaki dosyalar tek istekte gönderilir; resumable oturum açmaya değmez
+    private static final long SINGLE_REQUEST_THRESHOLD = 256 * 1024;
+    // GCS resumable upload chunk'ı 256 KB'ın katı olmalı
+    private static final int UPLOAD_CHUNK_SIZE = 256 * 1024;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final String bucketName;
+
+    public FirebaseStorageServiceImpl(@Value("${app.storage.firebase.bucket}") String bucketName) {
+        this.bucketName = bucketName;
+    }
 
     @Override
     public String uploadFile(MultipartFile file, String folder) {
+        return upload(file, file.getSize(), file.getOriginalFilename(), file.getContentType(), folder);
+    }
+
+    @Override
+    public String uploadFile(Path source, String originalFilename, String contentType, String folder) {
+        try {
+            return upload(new FileSystemResource(source), Files.size(source), originalFilename, contentType, folder);
+        } catch (IOException e) {
+            log.error("Failed to read file for Firebase upload: {}", source, e);
+            throw new RuntimeException("File upload failed", e);
+        }
+    }
+
+    private String upload(InputStreamSource source, long size, String originalFilename, String contentType, String folder) {
         try {
-            String originalFilename = file.getOriginalFilename();
-            String extension = originalFilename != null && originalFilename.contains(".")
-                    ? originalFilename.substring(originalFilename.lastIndexOf("."))
-                    : "";
-            String filename = folder + "/" + UUID.randomUUID() + extension;
+            String filename = StorageObjectNames.newObjectName(folder, originalFilename);
 
             Storage storage = StorageClient.getInstance().bucket().getStorage();
 
-            BlobInfo blobInfo = BlobInfo.newBuilder(BUCKET_NAME, filename)
-                    .setContentType(file.getContentType())
+            BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, filename)
+                    .setContentType(contentType)
                     .build();
 
-            Blob blob = storage.create(blobInfo, file.getBytes());
+            if (size <= SINGLE_REQUEST_THRESHOLD) {
+                try (InputStream in = source.getInputStream()) {
+                    storage.create(blobInfo, in.readAllBytes());
+                }
+            } else {
+                streamToStorage(storage, blobInfo, source);
+            }
 
-            String publicUrl = String.format(
-                    "https://firebasestorage.googleapis.com/v0/b/%s/o/%s?alt=media",
-                    BUCKET_NAME,
-                    filename.replace("/", "%2F")
-            );
+            String publicUrl = publicUrlOf(filename);
 
             log.info("File uploaded successfully: {}", publicUrl);
             return publicUrl;
@@ -51,6 +90,41 @@ public class FirebaseStorageServiceImpl implements FirebaseStorageService {
         }
     }
 
+    /**
+     * Dosyayı sabit boyutlu bir buffer üzerinden resumable upload kanalına aktarır.
+     * Dosyanın tamamı hiçbir zaman heap'e alınmaz.
+     */
+    private void streamToStorage(Storage storage, BlobInfo blobInfo, InputStreamSource source) throws IOException {
+        try (InputStream in = source.getInputStream();
+             WriteChannel writer = storage.writer(blobInfo)) {
+            writer.setChunkSize(UPLOAD_CHUNK_SIZE);
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    writer.write(chunk);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean downloadTo(String fileUrl, Path target) {
+        String blobName = blobNameOf(fileUrl);
+        if (blobName == null) {
+            return false;
+        }
+
+        Storage storage = StorageClient.getInstance().bucket().getStorage();
+        Blob blob = storage.get(BlobId.of(bucketName, blobName));
+        if (blob == null) {
+            return false;
+        }
+        blob.downloadTo(target);
+        return true;
+    }
+
     @Override
     public void deleteFile(String fileUrl) {
         if (fileUrl == null || fileUrl.isBlank()) {
@@ -58,21 +132,14 @@ public class FirebaseStorageServiceImpl implements FirebaseStorageService {
         }
 
         try {
-            String prefix = String.format("https://firebasestorage.googleapis.com/v0/b/%s/o/", BUCKET_NAME);
-            if (!fileUrl.startsWith(prefix)) {
+            String blobName = blobNameOf(fileUrl);
+            if (blobName == null) {
                 log.warn("Skipping deletion, URL does not belong to this bucket: {}", fileUrl);
                 return;
             }
 
-            String encodedPath = fileUrl.substring(prefix.length());
-            int tokenIndex = encodedPath.indexOf("?");
-            if (tokenIndex != -1) {
-                encodedPath = encodedPath.substring(0, tokenIndex);
-            }
-            String blobName = encodedPath.replace("%2F", "/");
-
             Storage storage = StorageClient.getInstance().bucket().getStorage();
-            BlobId blobId = BlobId.of(BUCKET_NAME, blobName);
+            BlobId blobId = BlobId.of(bucketName, blobName);
             boolean deleted = storage.delete(blobId);
             if (deleted) {
                 log.info("File deleted from Firebase Storage: {}", blobName);
@@ -80,7 +147,81 @@ public class FirebaseStorageServiceImpl implements FirebaseStorageService {
                 log.warn("File not found in Firebase Storage: {}", blobName);
             }
         } catch (Exception e) {
+            // Silme outbox'tan tekrar denenebilsin diye hata yutulmaz
             log.error("Failed to delete file from Firebase Storage", e);
+            throw new RuntimeException("File deletion failed", e);
+        }
+    }
+
+    @Override
+    public List<String> deleteFiles(Collection<String> fileUrls) {
+        List<String> targets = new ArrayList<>(fileUrls.size());
+        List<BlobId> blobIds = new ArrayList<>(fileUrls.size());
+        for (String fileUrl : fileUrls) {
+            String blobName = blobNameOf(fileUrl);
+            if (blobName != null) {
+                targets.add(fileUrl);
+                blobIds.add(BlobId.of(bucketName, blobName));
+            }
+        }
+        if (blobIds.isEmpty()) {
+            return List.of();
+        }
+
+        // Tek bir batch isteğiyle silinir; sonuçlar istek sırasıyla döner
+        Storage storage = StorageClient.getInstance().bucket().getStorage();
+        List<Boolean> results = storage.delete(blobIds);
+        List<String> deleted = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                deleted.add(targets.get(i));
+            }
+        }
+        log.info("Batch deleted {} of {} files from Firebase Storage", deleted.size(), blobIds.size());
+        return deleted;
+    }
+
+    @Override
+    public void listObjects(String folder, int pageSize, Consumer<List<StoredObjectInfo>> pageConsumer) {
+        Storage storage = StorageClient.getInstance().bucket().getStorage();
+        Page<Blob> page = storage.list(bucketName,
+                Storage.BlobListOption.prefix(folder + "/"),
+                Storage.BlobListOption.pageSize(pageSize));
+        while (page != null) {
+            List<StoredObjectInfo> objects = new ArrayList<>(pageSize);
+            for (Blob blob : page.getValues()) {
+                objects.add(new StoredObjectInfo(
+                        publicUrlOf(blob.getName()),
+                        blob.getCreateTimeOffsetDateTime().toInstant(),
+                        blob.getSize() != null ? blob.getSize() : 0));
+            }
+            pageConsumer.accept(objects);
+            page = page.hasNextPage() ? page.getNextPage() : null;
+        }
+    }
+
+    private String publicUrlOf(String blobName) {
+        return String.format(
+                "https://firebasestorage.googleapis.com/v0/b/%s/o/%s?alt=media",
+                bucketName,
+                blobName.replace("/", "%2F")
+        );
+    }
+
+    /**
+     * Public URL'den blob adını çıkarır; URL bu bucket'a ait değilse null döner.
+     */
+    private String blobNameOf(String fileUrl) {
+        String prefix = String.format("https://firebasestorage.googleapis.com/v0/b/%s/o/", bucketName);
+        if (fileUrl == null || !fileUrl.startsWith(prefix)) {
+            return null;
+        }
+
+        String encodedPath = fileUrl.substring(prefix.length());
+        int tokenIndex = encodedPath.indexOf("?");
+        if (tokenIndex != -1) {
+            encodedPath = encodedPath.substring(0, tokenIndex);
         }
+        return encodedPath.replace("%2F", "/");
     }
 }
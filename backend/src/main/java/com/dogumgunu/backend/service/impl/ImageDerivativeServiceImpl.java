@@ -0,0 +1,350 @@
+package com.dogumgunu.backend.service.impl;
+
+import com.dogumgunu.backend.common.domain.MediaDerivatives;
+import com.dogumgunu.backend.service.MediaDeletionService;
+import com.dogumgunu.backend.service.MediaDerivativeService;
+import com.dogumgunu.backend.service.MediaStorageService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Service;
+import org.w3c.dom.NodeList;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Saf Java (ImageIO + Java2D) ile türev üretimi. Orijinal bir kez decode edilir,
+ * her genişlik sınırlı bir thread havuzunda paralel olarak küçültülüp yüklenir.
+ */
+@Slf4j
+@Service
+public class ImageDerivativeServiceImpl implements MediaDerivativeService {
+
+    private static final String JPEG_CONTENT_TYPE = "image/jpeg";
+    private static final int PLACEHOLDER_WIDTH = 16;
+    private static final float PLACEHOLDER_QUALITY = 0.4f;
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final String APP1_MARKER = "225";
+    private static final int EXIF_HEADER_LENGTH = 6;
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final int ORIENTATION_NORMAL = 1;
+
+    private final MediaStorageService mediaStorageService;
+    private final MediaDeletionService mediaDeletionService;
+    private final List<Integer> variantWidths;
+    private final float jpegQuality;
+    private final long maxSourcePixels;
+    private final ExecutorService executor;
+
+    public ImageDerivativeServiceImpl(
+            MediaStorageService mediaStorageService,
+            MediaDeletionService mediaDeletionService,
+            @Value("${app.media.derivatives.widths}") List<Integer> variantWidths,
+            @Value("${app.media.derivatives.jpeg-quality}") float jpegQuality,
+            @Value("${app.media.derivatives.max-source-pixels}") long maxSourcePixels,
+            @Value("${app.media.derivatives.threads:0}") int threads) {
+        this.mediaStorageService = mediaStorageService;
+        this.mediaDeletionService = mediaDeletionService;
+        this.variantWidths = variantWidths.stream().sorted().toList();
+        this.jpegQuality = jpegQuality;
+        this.maxSourcePixels = maxSourcePixels;
+        // Küçültme CPU'ya bağlı; çekirdek sayısından fazla thread yalnızca bellek tüketir
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = Executors.newFixedThreadPool(poolSize,
+                Thread.ofPlatform().name("media-derivative-", 0).daemon(true).factory());
+    }
+
+    @Override
+    public MediaDerivatives generate(InputStreamSource source, String folder) {
+        long started = System.nanoTime();
+        List<Future<String>> uploads = new ArrayList<>(variantWidths.size());
+        try {
+            BufferedImage original = decode(source);
+            if (original == null) {
+                return MediaDerivatives.none();
+            }
+
+            List<Integer> widths = variantWidths.stream()
+                    .filter(width -> width < original.getWidth())
+                    .toList();
+            for (int width : widths) {
+                uploads.add(executor.submit(() -> uploadVariant(original, width, folder)));
+            }
+
+            // Placeholder varyantlar yüklenirken çağıran thread'de hazırlanır
+            String placeholder = placeholderOf(original);
+
+            Map<String, String> variants = new LinkedHashMap<>();
+            for (int i = 0; i < widths.size(); i++) {
+                variants.put(String.valueOf(widths.get(i)), uploads.get(i).get());
+            }
+
+            log.debug("Generated {} derivatives in {} ms", variants.size(), (System.nanoTime() - started) / 1_000_000);
+            return new MediaDerivatives(variants, placeholder);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            discardUploaded(uploads);
+            return MediaDerivatives.none();
+        } catch (IOException | ExecutionException | RuntimeException e) {
+            log.warn("Failed to generate media derivatives", e);
+            discardUploaded(uploads);
+            return MediaDerivatives.none();
+        }
+    }
+
+    /**
+     * Bir varyant başarısız olduğunda diğerleri yüklenmiş olabilir; satıra yazılmayacakları
+     * için silinmeleri outbox'a bırakılır. Henüz başlamamış yüklemeler iptal edilir.
+     */
+    private void discardUploaded(List<Future<String>> uploads) {
+        List<String> uploaded = new ArrayList<>();
+        for (Future<String> upload : uploads) {
+            if (upload.cancel(false)) {
+                continue;
+            }
+            try {
+                uploaded.add(upload.get());
+            } catch (ExecutionException | CancellationException e) {
+                // Yüklenmemiş; silinecek bir şey yok
+            } catch (InterruptedException e) {
+                // Kalanlar sahipsiz medya GC'sine kalır
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (!uploaded.isEmpty()) {
+            mediaDeletionService.scheduleDeletion(uploaded);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Büyük kaynaklar, en büyük varyantın iki katından küçük olmayacak şekilde
+     * subsampling ile decode edilir; 40 MP'lik bir fotoğraf heap'e tam boy alınmaz.
+     * ImageIO EXIF yönünü uygulamadığı için görsel burada döndürülür.
+     */
+    private BufferedImage decode(InputStreamSource source) throws IOException {
+        try (InputStream in = source.getInputStream();
+             ImageInputStream imageIn = ImageIO.createImageInputStream(in)) {
+            if (imageIn == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageIn);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageIn, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxSourcePixels) {
+                    log.warn("Skipping derivatives for {}x{} image, exceeds pixel limit", width, height);
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int largest = variantWidths.isEmpty() ? PLACEHOLDER_WIDTH : variantWidths.getLast();
+                int subsampling = Math.max(1, width / (largest * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage image = reader.read(0, param);
+                return orient(image, exifOrientation(reader));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * JPEG APP1 segmentindeki EXIF IFD0'dan Orientation etiketini okur; bulunamazsa 1 (normal).
+     */
+    private static int exifOrientation(ImageReader reader) {
+        try {
+            IIOMetadata metadata = reader.getImageMetadata(0);
+            if (metadata == null || !JPEG_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName())) {
+                return ORIENTATION_NORMAL;
+            }
+            IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(JPEG_METADATA_FORMAT);
+            NodeList markers = root.getElementsByTagName("unknown");
+            for (int i = 0; i < markers.getLength(); i++) {
+                IIOMetadataNode marker = (IIOMetadataNode) markers.item(i);
+                if (APP1_MARKER.equals(marker.getAttribute("MarkerTag"))
+                        && marker.getUserObject() instanceof byte[] app1) {
+                    int orientation = orientationOf(app1);
+                    if (orientation != ORIENTATION_NORMAL) {
+                        return orientation;
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Could not read EXIF orientation", e);
+        }
+        return ORIENTATION_NORMAL;
+    }
+
+    static int orientationOf(byte[] app1) {
+        // "Exif\0\0" + TIFF başlığı (bayt sırası, 42, IFD0 ofseti)
+        if (app1.length < EXIF_HEADER_LENGTH + 8
+                || app1[0] != 'E' || app1[1] != 'x' || app1[2] != 'i' || app1[3] != 'f') {
+            return ORIENTATION_NORMAL;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(app1, EXIF_HEADER_LENGTH, app1.length - EXIF_HEADER_LENGTH).slice();
+        if (tiff.get(0) == 'I' && tiff.get(1) == 'I') {
+            tiff.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (tiff.get(0) != 'M' || tiff.get(1) != 'M') {
+            return ORIENTATION_NORMAL;
+        }
+        long ifdOffset = tiff.getInt(4) & 0xFFFFFFFFL;
+        if (ifdOffset + 2 > tiff.limit()) {
+            return ORIENTATION_NORMAL;
+        }
+        int entries = tiff.getShort((int) ifdOffset) & 0xFFFF;
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifdOffset + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                break;
+            }
+            if ((tiff.getShort(entry) & 0xFFFF) == ORIENTATION_TAG) {
+                int value = tiff.getShort(entry + 8) & 0xFFFF;
+                return value >= 1 && value <= 8 ? value : ORIENTATION_NORMAL;
+            }
+        }
+        return ORIENTATION_NORMAL;
+    }
+
+    /**
+     * EXIF yönünü (2-8) piksellere uygular; 5-8 genişlik ve yüksekliği yer değiştirir.
+     */
+    static BufferedImage orient(BufferedImage image, int orientation) {
+        if (orientation <= ORIENTATION_NORMAL || orientation > 8) {
+            return image;
+        }
+        int w = image.getWidth();
+        int h = image.getHeight();
+        boolean swap = orientation >= 5;
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> transform.setTransform(-1, 0, 0, 1, w, 0);
+            case 3 -> transform.setTransform(-1, 0, 0, -1, w, h);
+            case 4 -> transform.setTransform(1, 0, 0, -1, 0, h);
+            case 5 -> transform.setTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> transform.setTransform(0, 1, -1, 0, h, 0);
+            case 7 -> transform.setTransform(0, -1, -1, 0, h, w);
+            case 8 -> transform.setTransform(0, -1, 1, 0, 0, w);
+            default -> {
+            }
+        }
+        BufferedImage target = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.drawImage(image, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private String uploadVariant(BufferedImage original, int width, String folder) throws IOException {
+        BufferedImage resized = resize(original, width);
+        Path temp = Files.createTempFile("media-variant-", ".jpg");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                writeJpeg(resized, jpegQuality, out);
+            }
+            return mediaStorageService.uploadFile(temp, "w" + width + ".jpg", JPEG_CONTENT_TYPE, folder);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private String placeholderOf(BufferedImage original) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        writeJpeg(resize(original, PLACEHOLDER_WIDTH), PLACEHOLDER_QUALITY, out);
+        return "data:" + JPEG_CONTENT_TYPE + ";base64," + Base64.getEncoder().encodeToString(out.toByteArray());
+    }
+
+    /**
+     * Tek adımda bilinear küçültme büyük oranlarda aliasing yapar;
+     * hedefe yaklaşana kadar yarıya indirerek ilerlenir.
+     */
+    private static BufferedImage resize(BufferedImage source, int targetWidth) {
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        // JPEG alfa kanalı taşımaz; RGB'ye çizmek hem şeffaf PNG'leri hem CMYK sapmalarını düzeltir
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static void writeJpeg(BufferedImage image, float quality, OutputStream out) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.dogumgunu.backend.service.impl;
+
+import com.dogumgunu.backend.common.domain.StoredObjectInfo;
+import com.dogumgunu.backend.service.MediaStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Dosyaları süreç belleğinde tutan sahte depolama. Testlerde ve ağ olmadan
+ * upload/delete yolunun yük testinde kullanılır; kalıcı değildir.
+ */
+@Slf4j
+@Service
+@Qualifier(MediaStorageService.BACKEND_QUALIFIER)
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "memory")
+public class InMemoryStorageServiceImpl implements MediaStorageService {
+
+    static final String URL_PREFIX = "memory://";
+
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+
+    @Override
+    public String uploadFile(MultipartFile file, String folder) {
+        String objectName = StorageObjectNames.newObjectName(folder, file.getOriginalFilename());
+        try {
+            objects.put(objectName, new StoredObject(file.getBytes(), file.getContentType(), Instant.now()));
+        } catch (IOException e) {
+            log.error("Failed to read upload into memory", e);
+            throw new RuntimeException("File upload failed", e);
+        }
+        return URL_PREFIX + objectName;
+    }
+
+    @Override
+    public String uploadFile(Path source, String originalFilename, String contentType, String folder) {
+        String objectName = StorageObjectNames.newObjectName(folder, originalFilename);
+        try {
+            objects.put(objectName, new StoredObject(Files.readAllBytes(source), contentType, Instant.now()));
+        } catch (IOException e) {
+            log.error("Failed to read file into memory: {}", source, e);
+            throw new RuntimeException("File upload failed", e);
+        }
+        return URL_PREFIX + objectName;
+    }
+
+    @Override
+    public boolean downloadTo(String fileUrl, Path target) {
+        if (fileUrl == null || !fileUrl.startsWith(URL_PREFIX)) {
+            return false;
+        }
+        StoredObject object = objects.get(fileUrl.substring(URL_PREFIX.length()));
+        if (object == null) {
+            return false;
+        }
+        try {
+            Files.write(target, object.content());
+            return true;
+        } catch (IOException e) {
+            log.error("Failed to write memory object to {}", target, e);
+            throw new RuntimeException("File download failed", e);
+        }
+    }
+
+    @Override
+    public void deleteFile(String fileUrl) {
+        if (fileUrl == null || !fileUrl.startsWith(URL_PREFIX)) {
+            return;
+        }
+        if (objects.remove(fileUrl.substring(URL_PREFIX.length())) == null) {
+            log.warn("File not found in memory storage: {}", fileUrl);
+        }
+    }
+
+    @Override
+    public void listObjects(String folder, int pageSize, Consumer<List<StoredObjectInfo>> pageConsumer) {
+        String prefix = folder + "/";
+        List<StoredObjectInfo> page = new ArrayList<>(pageSize);
+        for (Map.Entry<String, StoredObject> entry : objects.entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                continue;
+            }
+            StoredObject object = entry.getValue();
+            page.add(new StoredObjectInfo(URL_PREFIX + entry.getKey(), object.createdAt(), object.content().length));
+            if (page.size() == pageSize) {
+                pageConsumer.accept(page);
+                page = new ArrayList<>(pageSize);
+            }
+        }
+        if (!page.isEmpty()) {
+            pageConsumer.accept(page);
+        }
+    }
+
+    private record StoredObject(byte[] content, String contentType, Instant createdAt) {
+    }
+}
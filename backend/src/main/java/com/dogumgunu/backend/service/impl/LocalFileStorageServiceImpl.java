@@ -0,0 +1,206 @@
+package com.dogumgunu.backend.service.impl;
+
+import com.dogumgunu.backend.common.domain.StoredObjectInfo;
+import com.dogumgunu.backend.service.MediaStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Dosyaları yerel diskte saklar. Bulut gecikmesi olmadan on-prem çalıştırma
+ * ve upload throughput ölçümü için kullanılır.
+ */
+@Slf4j
+@Service
+@Qualifier(MediaStorageService.BACKEND_QUALIFIER)
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local")
+public class LocalFileStorageServiceImpl implements MediaStorageService {
+
+    private final Path rootDirectory;
+    private final String publicBaseUrl;
+
+    public LocalFileStorageServiceImpl(
+            @Value("${app.storage.local.directory}") String directory,
+            @Value("${app.storage.local.public-url}") String publicBaseUrl) {
+        this.rootDirectory = Path.of(directory).toAbsolutePath().normalize();
+        this.publicBaseUrl = publicBaseUrl.endsWith("/")
+                ? publicBaseUrl.substring(0, publicBaseUrl.length() - 1)
+                : publicBaseUrl;
+    }
+
+    @Override
+    public String uploadFile(MultipartFile file, String folder) {
+        String objectName = StorageObjectNames.newObjectName(folder, file.getOriginalFilename());
+        try (InputStream in = file.getInputStream();
+             ReadableByteChannel source = in instanceof FileInputStream fileIn
+                     ? fileIn.getChannel()
+                     : Channels.newChannel(in)) {
+            return store(source, file.getSize(), objectName);
+        } catch (IOException e) {
+            log.error("Failed to store file locally", e);
+            throw new RuntimeException("File upload failed", e);
+        }
+    }
+
+    @Override
+    public String uploadFile(Path sourcePath, String originalFilename, String contentType, String folder) {
+        String objectName = StorageObjectNames.newObjectName(folder, originalFilename);
+        try (FileChannel source = FileChannel.open(sourcePath, StandardOpenOption.READ)) {
+            return store(source, source.size(), objectName);
+        } catch (IOException e) {
+            log.error("Failed to store file locally", e);
+            throw new RuntimeException("File upload failed", e);
+        }
+    }
+
+    /**
+     * Kaynak bir dosya kanalıysa transferFrom kopyayı çekirdekte yapar, veri heap'e gelmez.
+     * Yarım yazılmış dosyalar hiçbir zaman hedef adla görünmez.
+     */
+    private String store(ReadableByteChannel source, long size, String objectName) throws IOException {
+        Path target = resolve(objectName);
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+
+        try {
+            Files.createDirectories(target.getParent());
+            try (FileChannel out = FileChannel.open(partial, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                long position = 0;
+                while (position < size) {
+                    long transferred = out.transferFrom(source, position, size - position);
+                    if (transferred <= 0) {
+                        throw new IOException("Upload stream ended after " + position + " of " + size + " bytes");
+                    }
+                    position += transferred;
+                }
+            }
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(partial);
+            throw e;
+        }
+
+        String publicUrl = publicBaseUrl + "/" + objectName;
+        log.info("File stored locally: {}", publicUrl);
+        return publicUrl;
+    }
+
+    @Override
+    public boolean downloadTo(String fileUrl, Path target) {
+        String prefix = publicBaseUrl + "/";
+        if (fileUrl == null || !fileUrl.startsWith(prefix)) {
+            return false;
+        }
+        Path path = resolve(fileUrl.substring(prefix.length()));
+        if (!Files.isRegularFile(path)) {
+            return false;
+        }
+        try {
+            Files.copy(path, target, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (IOException e) {
+            log.error("Failed to copy local file {} to {}", path, target, e);
+            throw new RuntimeException("File download failed", e);
+        }
+    }
+
+    @Override
+    public void deleteFile(String fileUrl) {
+        if (fileUrl == null || fileUrl.isBlank()) {
+            return;
+        }
+
+        String prefix = publicBaseUrl + "/";
+        if (!fileUrl.startsWith(prefix)) {
+            log.warn("Skipping deletion, URL does not belong to local storage: {}", fileUrl);
+            return;
+        }
+
+        Path path;
+        try {
+            path = resolve(fileUrl.substring(prefix.length()));
+        } catch (IllegalArgumentException e) {
+            log.warn("Skipping deletion, invalid local URL: {}", fileUrl);
+            return;
+        }
+
+        try {
+            if (Files.deleteIfExists(path)) {
+                log.info("File deleted from local storage: {}", path);
+            } else {
+                log.warn("File not found in local storage: {}", path);
+            }
+        } catch (IOException e) {
+            log.error("Failed to delete file from local storage", e);
+            throw new RuntimeException("File deletion failed", e);
+        }
+    }
+
+    @Override
+    public void listObjects(String folder, int pageSize, Consumer<List<StoredObjectInfo>> pageConsumer) {
+        Path base = resolve(folder);
+        if (!Files.isDirectory(base)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.walk(base)) {
+            List<StoredObjectInfo> page = new ArrayList<>(pageSize);
+            Iterator<Path> iterator = files
+                    .filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().endsWith(".part"))
+                    .iterator();
+            while (iterator.hasNext()) {
+                Path path = iterator.next();
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                String objectName = rootDirectory.relativize(path).toString().replace('\\', '/');
+                page.add(new StoredObjectInfo(publicBaseUrl + "/" + objectName,
+                        attributes.creationTime().toInstant(), attributes.size()));
+                if (page.size() == pageSize) {
+                    pageConsumer.accept(page);
+                    page = new ArrayList<>(pageSize);
+                }
+            }
+            if (!page.isEmpty()) {
+                pageConsumer.accept(page);
+            }
+        } catch (IOException e) {
+            log.error("Failed to list local storage folder {}", base, e);
+            throw new RuntimeException("File listing failed", e);
+        }
+    }
+
+    private Path resolve(String objectName) {
+        Path path = rootDirectory.resolve(objectName).normalize();
+        if (!path.startsWith(rootDirectory)) {
+            throw new IllegalArgumentException("Invalid object name: " + objectName);
+        }
+        return path;
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not remove partial upload {}", path, e);
+        }
+    }
+}
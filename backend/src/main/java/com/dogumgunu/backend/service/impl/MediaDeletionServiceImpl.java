@@ -0,0 +1,153 @@
+package com.dogumgunu.backend.service.impl;
+
+import com.dogumgunu.backend.repository.MediaDeletionOutboxRepository;
+import com.dogumgunu.backend.repository.MediaDeletionOutboxRepository.OutboxEntry;
+import com.dogumgunu.backend.repository.MediaDeletionOutboxRepository.Retry;
+import com.dogumgunu.backend.repository.MediaObjectRepository;
+import com.dogumgunu.backend.service.MediaCacheService;
+import com.dogumgunu.backend.service.MediaDeletionService;
+import com.dogumgunu.backend.service.MediaStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Medya silmeleri için transactional outbox. İstek transaction'ı sadece bir INSERT yapar;
+ * uzak depolama çağrıları bağlantı havuzundan bağlantı tutmadan dispatcher'da yapılır.
+ * Dispatch en az bir kez çalışır; referans sayacı kayıt başına bir kez, outbox satırıyla
+ * aynı transaction'da düşürülür, depolama silmesi ise commit'ten sonra yapılır ve tekrarlanabilir.
+ */
+@Slf4j
+@Service
+public class MediaDeletionServiceImpl implements MediaDeletionService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final MediaDeletionOutboxRepository outboxRepository;
+    private final MediaObjectRepository mediaObjectRepository;
+    private final MediaStorageService storageBackend;
+    private final TransactionTemplate transactionTemplate;
+    private final MediaCacheService mediaCacheService;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public MediaDeletionServiceImpl(
+            MediaDeletionOutboxRepository outboxRepository,
+            MediaObjectRepository mediaObjectRepository,
+            @Qualifier(MediaStorageService.BACKEND_QUALIFIER) MediaStorageService storageBackend,
+            TransactionTemplate transactionTemplate,
+            MediaCacheService mediaCacheService,
+            @Value("${app.media.outbox.batch-size}") int batchSize,
+            @Value("${app.media.outbox.lease}") Duration lease,
+            @Value("${app.media.outbox.initial-backoff}") Duration initialBackoff,
+            @Value("${app.media.outbox.max-backoff}") Duration maxBackoff) {
+        this.outboxRepository = outboxRepository;
+        this.mediaObjectRepository = mediaObjectRepository;
+        this.storageBackend = storageBackend;
+        this.transactionTemplate = transactionTemplate;
+        this.mediaCacheService = mediaCacheService;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Override
+    @Transactional
+    public void scheduleDeletion(Collection<String> urls) {
+        List<String> pending = urls.stream()
+                .filter(Objects::nonNull)
+                .filter(url -> !url.isBlank())
+                .distinct()
+                .toList();
+        if (!pending.isEmpty()) {
+            outboxRepository.enqueue(pending);
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.media.outbox.poll-interval}")
+    public void dispatchPending() {
+        List<OutboxEntry> batch;
+        do {
+            // Her claim kendi kısa transaction'ında (autocommit) çalışır
+            batch = outboxRepository.claimBatch(batchSize, lease.toSeconds());
+            dispatch(batch);
+        } while (batch.size() == batchSize);
+    }
+
+    private void dispatch(List<OutboxEntry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Long> done = new ArrayList<>(batch.size());
+        List<Retry> retries = new ArrayList<>();
+        int kept = 0;
+        for (OutboxEntry entry : batch) {
+            try {
+                // Önceki denemede sayaç düşürüldüyse sadece depolama silmesi tekrarlanır
+                if (entry.released() || release(entry)) {
+                    storageBackend.deleteFile(entry.mediaUrl());
+                    mediaCacheService.evict(entry.mediaUrl());
+                    done.add(entry.id());
+                } else {
+                    kept++;
+                }
+            } catch (RuntimeException e) {
+                int attempts = entry.attempts() + 1;
+                Duration delay = backoffFor(attempts);
+                log.warn("Media deletion attempt {} failed for {}, retrying in {}",
+                        attempts, entry.mediaUrl(), delay, e);
+                retries.add(new Retry(entry.id(), attempts, delay.toSeconds(), truncate(String.valueOf(e.getMessage()))));
+            }
+        }
+
+        outboxRepository.deleteAll(done);
+        outboxRepository.rescheduleAll(retries);
+        log.info("Media deletion outbox: {} deleted, {} still referenced, {} rescheduled",
+                done.size(), kept, retries.size());
+    }
+
+    /**
+     * Kaydın referansını tek transaction'da bırakır. Nesne hâlâ kullanılıyorsa outbox satırı
+     * aynı transaction'da silinir; kullanılmıyorsa satır işaretlenir ve silme commit'ten sonra yapılır.
+     *
+     * @return nesne depolamadan silinmeliyse true
+     */
+    private boolean release(OutboxEntry entry) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (!outboxRepository.markReleased(entry.id())) {
+                // Lease süresi dolduğu için kayıt başka bir dispatcher tarafından işlendi
+                return false;
+            }
+            if (mediaObjectRepository.releaseForDeletion(entry.mediaUrl())) {
+                return true;
+            }
+            outboxRepository.deleteAll(List.of(entry.id()));
+            return false;
+        }));
+    }
+
+    private Duration backoffFor(int attempts) {
+        // 2^attempts taşmasın diye üs sınırlanır; sonuç zaten maxBackoff ile kesilir
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,187 @@
+package com.dogumgunu.backend.service.impl;
+
+import com.dogumgunu.backend.common.domain.StoredObjectInfo;
+import com.dogumgunu.backend.dto.MediaGcReportDto;
+import com.dogumgunu.backend.repository.MediaObjectRepository;
+import com.dogumgunu.backend.repository.MediaReferenceRepository;
+import com.dogumgunu.backend.service.MediaCacheService;
+import com.dogumgunu.backend.service.MediaGarbageCollector;
+import com.dogumgunu.backend.service.MediaStorageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sahipsiz medya temizliği. Referanslar önce kompakt bir parmak izi kümesine alınır,
+ * sonra bucket sayfa sayfa listelenir; bellekte hiçbir zaman entity listesi veya
+ * tam bucket listesi tutulmaz. Silme, tekilleştirme katmanını atlayıp doğrudan backend'e gider.
+ */
+@Slf4j
+@Service
+public class MediaGarbageCollectorImpl implements MediaGarbageCollector {
+
+    private final MediaStorageService storageBackend;
+    private final MediaReferenceRepository mediaReferenceRepository;
+    private final MediaObjectRepository mediaObjectRepository;
+    private final MediaCacheService mediaCacheService;
+    private final List<String> folders;
+    private final Duration gracePeriod;
+    private final int pageSize;
+    private final int deleteBatchSize;
+    private final boolean scheduledDryRun;
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    private final Counter scannedCounter;
+    private final Counter orphanedCounter;
+    private final Counter deletedCounter;
+    private final Timer runTimer;
+    private final AtomicLong lastOrphanedBytes = new AtomicLong();
+
+    public MediaGarbageCollectorImpl(
+            @Qualifier(MediaStorageService.BACKEND_QUALIFIER) MediaStorageService storageBackend,
+            MediaReferenceRepository mediaReferenceRepository,
+            MediaObjectRepository mediaObjectRepository,
+            MediaCacheService mediaCacheService,
+            MeterRegistry meterRegistry,
+            @Value("${app.media.gc.folders}") List<String> folders,
+            @Value("${app.media.gc.grace-period}") Duration gracePeriod,
+            @Value("${app.media.gc.page-size}") int pageSize,
+            @Value("${app.media.gc.delete-batch-size}") int deleteBatchSize,
+            @Value("${app.media.gc.dry-run}") boolean scheduledDryRun) {
+        this.storageBackend = storageBackend;
+        this.mediaReferenceRepository = mediaReferenceRepository;
+        this.mediaObjectRepository = mediaObjectRepository;
+        this.mediaCacheService = mediaCacheService;
+        this.folders = folders;
+        this.gracePeriod = gracePeriod;
+        this.pageSize = pageSize;
+        this.deleteBatchSize = deleteBatchSize;
+        this.scheduledDryRun = scheduledDryRun;
+
+        this.scannedCounter = meterRegistry.counter("media.gc.objects.scanned");
+        this.orphanedCounter = meterRegistry.counter("media.gc.objects.orphaned");
+        this.deletedCounter = meterRegistry.counter("media.gc.objects.deleted");
+        this.runTimer = meterRegistry.timer("media.gc.run");
+        meterRegistry.gauge("media.gc.orphaned.bytes", lastOrphanedBytes);
+    }
+
+    @Scheduled(cron = "${app.media.gc.cron}")
+    public void scheduledCollect() {
+        collect(scheduledDryRun);
+    }
+
+    @Override
+    public MediaGcReportDto collect(boolean dryRun) {
+        if (!runLock.tryLock()) {
+            throw new IllegalStateException("Media garbage collection is already running");
+        }
+        try {
+            return runTimer.record(() -> run(dryRun));
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private MediaGcReportDto run(boolean dryRun) {
+        long started = System.nanoTime();
+
+        UrlFingerprintSet referenced = new UrlFingerprintSet();
+        mediaReferenceRepository.forEachReferencedUrl(gracePeriod, referenced::add);
+        referenced.seal();
+
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        Sweep sweep = new Sweep(dryRun);
+        for (String folder : folders) {
+            storageBackend.listObjects(folder, pageSize, page -> sweep.visit(page, referenced, cutoff));
+        }
+        sweep.flush();
+
+        lastOrphanedBytes.set(sweep.orphanedBytes);
+        MediaGcReportDto report = new MediaGcReportDto(
+                dryRun,
+                sweep.scanned,
+                sweep.referenced,
+                sweep.tooRecent,
+                sweep.orphaned,
+                sweep.deleted,
+                sweep.orphanedBytes,
+                (System.nanoTime() - started) / 1_000_000);
+        log.info("Media GC finished ({} references loaded): {}", referenced.size(), report);
+        return report;
+    }
+
+    private final class Sweep {
+
+        private final boolean dryRun;
+        private final List<String> pendingDeletes = new ArrayList<>();
+        private long scanned;
+        private long referenced;
+        private long tooRecent;
+        private long orphaned;
+        private long deleted;
+        private long orphanedBytes;
+
+        private Sweep(boolean dryRun) {
+            this.dryRun = dryRun;
+        }
+
+        void visit(List<StoredObjectInfo> page, UrlFingerprintSet references, Instant cutoff) {
+            for (StoredObjectInfo object : page) {
+                scanned++;
+                if (references.mightContain(object.url())) {
+                    referenced++;
+                } else if (object.createdAt().isAfter(cutoff)) {
+                    // Satırı henüz commit edilmemiş bir yükleme olabilir
+                    tooRecent++;
+                } else {
+                    orphaned++;
+                    orphanedBytes += object.size();
+                    orphanedCounter.increment();
+                    if (dryRun) {
+                        log.info("Media GC dry-run, would delete {}", object.url());
+                    } else {
+                        pendingDeletes.add(object.url());
+                        if (pendingDeletes.size() >= deleteBatchSize) {
+                            flush();
+                        }
+                    }
+                }
+            }
+            scannedCounter.increment(page.size());
+        }
+
+        void flush() {
+            if (pendingDeletes.isEmpty()) {
+                return;
+            }
+            List<String> batch = List.copyOf(pendingDeletes);
+            pendingDeletes.clear();
+            try {
+                // Yalnızca gerçekten silinenler indeksten düşer; kalanlar sonraki çalışmada tekrar denenir
+                List<String> removed = storageBackend.deleteFiles(batch);
+                mediaObjectRepository.deleteByUrls(removed);
+                removed.forEach(mediaCacheService::evict);
+                deleted += removed.size();
+                deletedCounter.increment(removed.size());
+                if (removed.size() < batch.size()) {
+                    log.warn("Media GC could not delete {} of {} objects", batch.size() - removed.size(), batch.size());
+                }
+            } catch (RuntimeException e) {
+                // Bir sonraki çalışmada tekrar denenir
+                log.warn("Media GC failed to delete a batch of {} objects", batch.size(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.dogumgunu.backend.service.impl;
+
+import com.dogumgunu.backend.common.domain.MediaDerivatives;
+import com.dogumgunu.backend.dto.TimelineEventDto;
+import com.dogumgunu.backend.enums.MediaStatus;
+import com.dogumgunu.backend.service.MediaDeletionService;
+import com.dogumgunu.backend.service.MediaDerivativeService;
+import com.dogumgunu.backend.service.MediaStorageService;
+import com.dogumgunu.backend.service.MediaUploadPipeline;
+import com.dogumgunu.backend.service.TimelineEventService;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * İstek thread'i sadece dosyayı diske alır ve satırı kaydeder; depolamaya yükleme
+ * sabit boyutlu bir worker havuzunda yapılır. Bekleyen iş sayısı da sınırlıdır:
+ * havuz ve kuyruk doluysa istek dosya diske alınmadan 503 ile reddedilir.
+ * Böylece istek süresi depolama gecikmesinden bağımsız olur.
+ */
+@Slf4j
+@Service
+public class MediaUploadPipelineImpl implements MediaUploadPipeline {
+
+    private static final String SPOOL_SUFFIX = ".spool";
+
+    private final TimelineEventService timelineEventService;
+    private final MediaStorageService mediaStorageService;
+    private final MediaDerivativeService mediaDerivativeService;
+    private final MediaDeletionService mediaDeletionService;
+    private final Path spoolDirectory;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    // Çalışan + kuyruktaki iş sayısı; spool dosyası almadan önce ayrılır
+    private final Semaphore pendingSlots;
+    private final ExecutorService executor;
+
+    public MediaUploadPipelineImpl(
+            TimelineEventService timelineEventService,
+            MediaStorageService mediaStorageService,
+            MediaDerivativeService mediaDerivativeService,
+            MediaDeletionService mediaDeletionService,
+            @Value("${app.upload.async.spool-directory}") String spoolDirectory,
+            @Value("${app.upload.async.concurrency}") int concurrency,
+            @Value("${app.upload.async.queue-capacity}") int queueCapacity,
+            @Value("${app.upload.async.max-attempts}") int maxAttempts,
+            @Value("${app.upload.async.initial-backoff}") Duration initialBackoff) throws IOException {
+        this.timelineEventService = timelineEventService;
+        this.mediaStorageService = mediaStorageService;
+        this.mediaDerivativeService = mediaDerivativeService;
+        this.mediaDeletionService = mediaDeletionService;
+        this.spoolDirectory = Files.createDirectories(Path.of(spoolDirectory).toAbsolutePath().normalize());
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.pendingSlots = new Semaphore(concurrency + queueCapacity);
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofVirtual().name("media-upload-", 0).factory());
+    }
+
+    @Override
+    public TimelineEventDto submit(MultipartFile file, TimelineEventDto dto, String folder) {
+        if (!pendingSlots.tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Upload queue is full");
+        }
+
+        Path spooled = spoolDirectory.resolve(UUID.randomUUID() + SPOOL_SUFFIX);
+        TimelineEventDto created;
+        try {
+            // Tomcat'in geçici dosyası istek bitince silinir; kendi kopyamızı alıyoruz
+            file.transferTo(spooled);
+            created = timelineEventService.createWithPendingMedia(dto);
+        } catch (IOException e) {
+            pendingSlots.release();
+            deleteQuietly(spooled);
+            log.error("Failed to spool upload", e);
+            throw new RuntimeException("File upload failed", e);
+        } catch (RuntimeException e) {
+            pendingSlots.release();
+            deleteQuietly(spooled);
+            throw e;
+        }
+
+        String originalFilename = file.getOriginalFilename();
+        String contentType = file.getContentType();
+        try {
+            executor.execute(() -> process(created.id(), spooled, originalFilename, contentType, folder));
+        } catch (RejectedExecutionException e) {
+            // Sadece kapanış sırasında olur; satır bir sonraki açılışa kadar PENDING kalmasın
+            pendingSlots.release();
+            finish(created.id(), null, MediaDerivatives.none(), spooled);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Upload service is shutting down");
+        }
+        return created;
+    }
+
+    /**
+     * Önceki süreçten kalan yüklemelerin dosyaları artık yoktur; bekleyen satırlar
+     * FAILED olarak işaretlenir ki istemci sonsuza kadar beklemesin.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverAbandonedUploads() {
+        try {
+            int failed = timelineEventService.failPendingMediaUploads();
+            if (failed > 0) {
+                log.warn("Marked {} abandoned media uploads as FAILED", failed);
+            }
+        } catch (DataAccessException e) {
+            // Açılışı durdurmaz; satırlar bir sonraki açılışta tekrar denenir
+            log.error("Could not mark abandoned media uploads as FAILED", e);
+        }
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(spoolDirectory, "*" + SPOOL_SUFFIX)) {
+            for (Path leftover : leftovers) {
+                deleteQuietly(leftover);
+            }
+        } catch (IOException e) {
+            log.warn("Could not clean spool directory {}", spoolDirectory, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Media upload workers did not finish in time");
+            executor.shutdownNow();
+        }
+    }
+
+    private void process(UUID eventId, Path spooled, String originalFilename, String contentType, String folder) {
+        try {
+            String mediaUrl = uploadWithRetry(eventId, spooled, originalFilename, contentType, folder);
+            MediaDerivatives derivatives = mediaUrl != null
+                    ? mediaDerivativeService.generate(new FileSystemResource(spooled), folder)
+                    : MediaDerivatives.none();
+            finish(eventId, mediaUrl, derivatives, spooled);
+        } finally {
+            pendingSlots.release();
+        }
+    }
+
+    private String uploadWithRetry(UUID eventId, Path spooled, String originalFilename, String contentType, String folder) {
+        Duration backoff = initialBackoff;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                return mediaStorageService.uploadFile(spooled, originalFilename, contentType, folder);
+            } catch (RuntimeException e) {
+                log.warn("Media upload attempt {}/{} failed for event {}", attempt, maxAttempts, eventId, e);
+            }
+            if (attempt < maxAttempts) {
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+                backoff = backoff.multipliedBy(2);
+            }
+        }
+        return null;
+    }
+
+    private void finish(UUID eventId, String mediaUrl, MediaDerivatives derivatives, Path spooled) {
+        try {
+            MediaStatus status = mediaUrl != null ? MediaStatus.READY : MediaStatus.FAILED;
+            timelineEventService.completeMediaUpload(eventId, mediaUrl, derivatives, status);
+            log.info("Media upload for event {} finished with status {}", eventId, status);
+        } catch (EntityNotFoundException e) {
+            // Yükleme sürerken olay silinmiş; dosya sahipsiz kalmasın
+            log.info("Event {} was deleted during upload, removing uploaded media", eventId);
+            List<String> orphaned = new ArrayList<>(derivatives.storedUrls());
+            orphaned.add(mediaUrl);
+            mediaDeletionService.scheduleDeletion(orphaned);
+        } catch (RuntimeException e) {
+            log.error("Failed to record media upload result for event {}", eventId, e);
+        } finally {
+            deleteQuietly(spooled);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not remove spooled upload {}", path, e);
+        }
+    }
+}
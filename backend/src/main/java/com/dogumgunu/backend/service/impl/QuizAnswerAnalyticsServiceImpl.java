@@ -0,0 +1,166 @@
+package com.dogumgunu.backend.service.impl;
+
+import com.dogumgunu.backend.dto.QuizAnswerStatsDto;
+import com.dogumgunu.backend.exception.BadRequestException;
+import com.dogumgunu.backend.repository.QuizAnswerStatsRepository;
+import com.dogumgunu.backend.repository.QuizAnswerStatsRepository.Increment;
+import com.dogumgunu.backend.service.QuizAnswerAnalyticsService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Cevap olaylarını kilitsiz bir halka tampona alır; tek bir arka plan thread'i tamponu
+ * her {@code flush-interval}'de ya da {@code batch-size} olay biriktiğinde boşaltır.
+ * Olaylar soru başına toplanır, böylece bir flush soru sayısı kadar upsert yapar.
+ */
+@Slf4j
+@Service
+public class QuizAnswerAnalyticsServiceImpl implements QuizAnswerAnalyticsService {
+
+    private static final int MAX_STATS_LIMIT = 500;
+
+    private final QuizAnswerStatsRepository statsRepository;
+    private final QuizAnswerEventBuffer buffer;
+    private final int batchSize;
+    private final Duration flushInterval;
+
+    private final Counter droppedBufferFullCounter;
+    private final Counter droppedWriteFailedCounter;
+    private final Counter flushedCounter;
+
+    private volatile Thread flusher;
+    private volatile boolean running;
+
+    public QuizAnswerAnalyticsServiceImpl(
+            QuizAnswerStatsRepository statsRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.quiz.analytics.buffer-capacity}") int bufferCapacity,
+            @Value("${app.quiz.analytics.batch-size}") int batchSize,
+            @Value("${app.quiz.analytics.flush-interval}") Duration flushInterval) {
+        this.statsRepository = statsRepository;
+        this.buffer = new QuizAnswerEventBuffer(bufferCapacity);
+        this.batchSize = Math.min(batchSize, buffer.capacity());
+        this.flushInterval = flushInterval;
+
+        this.droppedBufferFullCounter = meterRegistry.counter("quiz.answers.events.dropped", "reason", "buffer-full");
+        this.droppedWriteFailedCounter = meterRegistry.counter("quiz.answers.events.dropped", "reason", "write-failed");
+        this.flushedCounter = meterRegistry.counter("quiz.answers.events.flushed");
+        Gauge.builder("quiz.answers.events.buffered", buffer, QuizAnswerEventBuffer::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void record(UUID questionId, boolean correct, long latencyMillis) {
+        int latency = (int) Math.min(Math.max(latencyMillis, 0), Integer.MAX_VALUE);
+        if (!buffer.offer(questionId, correct, latency)) {
+            droppedBufferFullCounter.increment();
+            return;
+        }
+        Thread current = flusher;
+        if (current != null && buffer.size() >= batchSize) {
+            // unpark beklemez; flusher zaten uyanıksa etkisizdir
+            LockSupport.unpark(current);
+        }
+    }
+
+    @Override
+    public synchronized int flush() {
+        Map<UUID, Accumulator> byQuestion = new HashMap<>();
+        int drained = buffer.drain((questionId, correct, latency) ->
+                byQuestion.computeIfAbsent(questionId, id -> new Accumulator()).add(correct, latency),
+                buffer.capacity());
+        if (drained == 0) {
+            return 0;
+        }
+
+        List<Increment> increments = byQuestion.entrySet().stream()
+                .map(entry -> entry.getValue().toIncrement(entry.getKey()))
+                .toList();
+        try {
+            statsRepository.upsertAll(increments);
+            flushedCounter.increment(drained);
+        } catch (DataAccessException e) {
+            // Analitik için kayıp kabul edilir; tekrar denemek tamponu doldurur
+            droppedWriteFailedCounter.increment(drained);
+            log.warn("Failed to flush {} quiz answer events", drained, e);
+        }
+        return drained;
+    }
+
+    @Override
+    public List<QuizAnswerStatsDto> listQuestionStats(int limit) {
+        if (limit < 1 || limit > MAX_STATS_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_STATS_LIMIT);
+        }
+        return statsRepository.findAll(limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startFlusher() {
+        running = true;
+        flusher = Thread.ofPlatform()
+                .name("quiz-answer-flusher")
+                .daemon(true)
+                .start(this::runFlusher);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        Thread current = flusher;
+        if (current != null) {
+            LockSupport.unpark(current);
+            current.join(flushInterval.toMillis() + 5000);
+        }
+        // Kapanırken tamponda kalanlar da yazılır
+        flush();
+    }
+
+    private void runFlusher() {
+        long intervalNanos = flushInterval.toNanos();
+        while (running) {
+            // Süre dolunca ya da batch dolduğunda record() tarafından uyandırılır
+            LockSupport.parkNanos(this, intervalNanos);
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.error("Quiz answer flusher failed", e);
+            }
+        }
+    }
+
+    private static final class Accumulator {
+
+        private long attempts;
+        private long correctCount;
+        private long totalLatencyMs;
+        private int maxLatencyMs;
+
+        void add(boolean correct, int latencyMs) {
+            attempts++;
+            if (correct) {
+                correctCount++;
+            }
+            totalLatencyMs += latencyMs;
+            maxLatencyMs = Math.max(maxLatencyMs, latencyMs);
+        }
+
+        Increment toIncrement(UUID questionId) {
+            return new Increment(questionId, attempts, correctCount, totalLatencyMs, maxLatencyMs);
+        }
+    }
+}
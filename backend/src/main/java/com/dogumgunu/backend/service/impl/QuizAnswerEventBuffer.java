@@ -0,0 +1,111 @@
+package com.dogumgunu.backend.service.impl;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cevap olayları için sınırlı, kilitsiz halka tampon (çok üretici, tek tüketici).
+ * Olaylar primitive dizilerde tutulur, yazma başına nesne oluşmaz. Her slotun sıra numarası
+ * slotun yazılabilir mi okunabilir mi olduğunu gösterir; tampon doluysa {@link #offer}
+ * beklemeden false döner.
+ */
+final class QuizAnswerEventBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final long[] questionIdHigh;
+    private final long[] questionIdLow;
+    private final boolean[] correct;
+    private final int[] latencyMillis;
+
+    private final AtomicLong tail = new AtomicLong();
+    // Sadece tüketici yazar; size() için volatile
+    private volatile long head;
+
+    QuizAnswerEventBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 2 and 2^30");
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.questionIdHigh = new long[capacity];
+        this.questionIdLow = new long[capacity];
+        this.correct = new boolean[capacity];
+        this.latencyMillis = new int[capacity];
+    }
+
+    /**
+     * Olayı tampona ekler; tampon doluysa olay bırakılır ve false döner. Hiçbir zaman bloklamaz.
+     */
+    boolean offer(UUID questionId, boolean isCorrect, int latency) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // Slot bir tur önceki olaydan henüz okunmadı: tampon dolu
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+
+        int index = (int) (position & mask);
+        questionIdHigh[index] = questionId.getMostSignificantBits();
+        questionIdLow[index] = questionId.getLeastSignificantBits();
+        correct[index] = isCorrect;
+        latencyMillis[index] = latency;
+        // Slot verisi sıra numarasından önce yazılır; tüketici acquire ile okur
+        sequences.setRelease(index, position + 1);
+        return true;
+    }
+
+    /**
+     * En fazla {@code max} olayı okuyup {@code consumer}'a verir. Tek tüketici varsayılır;
+     * çağıran eşzamanlı drain çağrılarını engellemelidir.
+     *
+     * @return okunan olay sayısı
+     */
+    int drain(EventConsumer consumer, int max) {
+        long position = head;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (position & mask);
+            if (sequences.getAcquire(index) != position + 1) {
+                // Boş ya da üretici slotu henüz yayınlamadı
+                break;
+            }
+            consumer.accept(new UUID(questionIdHigh[index], questionIdLow[index]), correct[index], latencyMillis[index]);
+            sequences.setRelease(index, position + capacity);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    @FunctionalInterface
+    interface EventConsumer {
+        void accept(UUID questionId, boolean correct, int latencyMillis);
+    }
+}
@@ -0,0 +1,128 @@
+package com.dogumgunu.backend.service.impl;
+
+import com.dogumgunu.backend.dto.QuizQuestionDto;
+import com.dogumgunu.backend.enums.QuizDifficulty;
+import com.dogumgunu.backend.mapper.QuizQuestionMapper;
+import com.dogumgunu.backend.repository.QuizQuestionRepository;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Rastgele quiz için soruların bellekteki değişmez kopyası. DTO'lar (options zaten ham JSON)
+ * zorluk başına dizilerde tutulur; okuma kilitsizdir, değişiklikte tüm snapshot
+ * commit'ten sonra yeniden kurulup tek referans atamasıyla yayınlanır.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizQuestionPool {
+
+    private final QuizQuestionRepository questionRepository;
+    private final QuizQuestionMapper questionMapper;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Havuzdan tekrarsız {@code count} soru seçer. Dizi kopyalanmaz; kısmi Fisher–Yates
+     * yer değiştirmeleri küçük bir map'te tutulur, maliyet O(count).
+     *
+     * @param difficulty null ise tüm sorular
+     */
+    public List<QuizQuestionDto> sample(int count, QuizDifficulty difficulty) {
+        QuizQuestionDto[] pool = current().questionsOf(difficulty);
+        int n = pool.length;
+        int k = Math.min(Math.max(count, 0), n);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<Integer, Integer> swapped = new HashMap<>(k * 2);
+        QuizQuestionDto[] picked = new QuizQuestionDto[k];
+        for (int i = 0; i < k; i++) {
+            int j = i + random.nextInt(n - i);
+            int atJ = swapped.getOrDefault(j, j);
+            swapped.put(j, swapped.getOrDefault(i, i));
+            picked[i] = pool[atJ];
+        }
+        return Arrays.asList(picked);
+    }
+
+    /**
+     * Soruyu snapshot'tan bulur; soru bu arada silinmişse null döner.
+     */
+    public QuizQuestionDto find(UUID id) {
+        return current().byId().get(id);
+    }
+
+    /**
+     * Soru tablosu değiştiğinde çağrılır. Transaction içindeyse yeniden kurulum
+     * commit'ten sonra yapılır ki havuz commit edilmemiş veriyi görmesin.
+     */
+    public void refresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rebuild();
+                }
+            });
+        } else {
+            rebuild();
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot loaded = snapshot;
+        if (loaded != null) {
+            return loaded;
+        }
+        synchronized (this) {
+            loaded = snapshot;
+            return loaded != null ? loaded : rebuild();
+        }
+    }
+
+    /**
+     * Kurulumlar sıralıdır; son başlayan kurulum son commit'i gördüğü için en güncel olandır.
+     */
+    private synchronized Snapshot rebuild() {
+        QuizQuestionDto[] all = questionRepository.findAll()
+                .stream()
+                .map(questionMapper::toDto)
+                .toArray(QuizQuestionDto[]::new);
+
+        Map<QuizDifficulty, QuizQuestionDto[]> byDifficulty = new EnumMap<>(QuizDifficulty.class);
+        for (QuizDifficulty difficulty : QuizDifficulty.values()) {
+            byDifficulty.put(difficulty, Arrays.stream(all)
+                    .filter(question -> question.difficulty() == difficulty)
+                    .toArray(QuizQuestionDto[]::new));
+        }
+
+        Map<UUID, QuizQuestionDto> byId = new HashMap<>(all.length * 2);
+        for (QuizQuestionDto question : all) {
+            byId.put(question.id(), question);
+        }
+
+        Snapshot rebuilt = new Snapshot(all, byDifficulty, byId);
+        snapshot = rebuilt;
+        log.debug("Quiz question pool rebuilt with {} questions", all.length);
+        return rebuilt;
+    }
+
+    private record Snapshot(QuizQuestionDto[] all,
+                            Map<QuizDifficulty, QuizQuestionDto[]> byDifficulty,
+                            Map<UUID, QuizQuestionDto> byId) {
+
+        QuizQuestionDto[] questionsOf(QuizDifficulty difficulty) {
+            return difficulty == null ? all : byDifficulty.get(difficulty);
+        }
+    }
+}
@@ -1,20 +1,41 @@
 package com.dogumgunu.backend.service.impl;
 
+import com.dogumgunu.backend.common.config.CacheConfig;
+import com.dogumgunu.backend.common.domain.Watermark;
+import com.dogumgunu.backend.common.json.RawJson;
+import com.dogumgunu.backend.common.pagination.KeysetCursor;
+import com.dogumgunu.backend.common.query.FieldSelection;
+import com.dogumgunu.backend.dto.CursorPageDto;
+import com.dogumgunu.backend.dto.QuizPublicQuestionDto;
 import com.dogumgunu.backend.dto.QuizQuestionDto;
 import com.dogumgunu.backend.dto.QuizResultDto;
+import com.dogumgunu.backend.dto.QuizUserStatsDto;
 import com.dogumgunu.backend.enums.QuizDifficulty;
+import com.dogumgunu.backend.exception.BadRequestException;
 import com.dogumgunu.backend.mapper.QuizQuestionMapper;
 import com.dogumgunu.backend.mapper.QuizResultMapper;
 import com.dogumgunu.backend.model.QuizQuestionEntity;
 import com.dogumgunu.backend.model.QuizResultEntity;
+import com.dogumgunu.backend.repository.FieldProjectionRepository;
 import com.dogumgunu.backend.repository.QuizQuestionRepository;
 import com.dogumgunu.backend.repository.QuizResultRepository;
+import com.dogumgunu.backend.repository.QuizUserStatsRepository;
 import com.dogumgunu.backend.service.QuizService;
 import jakarta.persistence.EntityNotFoundException;
-import java.util.Collections;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,81 +44,195 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class QuizServiceImpl implements QuizService {
 
+    private static final int DEFAULT_RESULT_PAGE_SIZE = 20;
+    private static final int MAX_RESULT_PAGE_SIZE = 100;
+    private static final int MAX_LEADERBOARD_SIZE = 100;
+
+    // Cevap ve açıklama bilerek dışarıda; sadece oturumda cevaplandıktan sonra döner
+    private static final Set<String> SELECTABLE_FIELDS = Set.of(
+            "id", "question", "options", "rewardMediaUrl", "difficulty");
+
     private final QuizQuestionRepository questionRepository;
+    private final FieldProjectionRepository fieldProjectionRepository;
     private final QuizResultRepository resultRepository;
+    private final QuizUserStatsRepository userStatsRepository;
     private final QuizQuestionMapper questionMapper;
     private final QuizResultMapper resultMapper;
+    private final QuizQuestionPool questionPool;
 
     @Override
-    public List<QuizQuestionDto> listAllQuestions() {
+    @Cacheable(value = CacheConfig.QUIZ_QUESTION_LISTS, key = "'ALL'")
+    public List<QuizPublicQuestionDto> listAllQuestions() {
         return questionRepository.findAll()
                 .stream()
-                .map(questionMapper::toDto)
+                .map(questionMapper::toPublicDto)
                 .toList();
     }
 
     @Override
-    public List<QuizQuestionDto> listQuestionsByDifficulty(QuizDifficulty difficulty) {
+    @Cacheable(value = CacheConfig.QUIZ_QUESTION_LISTS, key = "#difficulty.name()")
+    public List<QuizPublicQuestionDto> listQuestionsByDifficulty(QuizDifficulty difficulty) {
         return questionRepository.findAllByDifficultyOrderByCreatedAtAsc(difficulty)
                 .stream()
-                .map(questionMapper::toDto)
+                .map(questionMapper::toPublicDto)
                 .toList();
     }
 
     @Override
-    public QuizQuestionDto getQuestion(UUID id) {
-        return questionMapper.toDto(findQuestion(id));
+    @Cacheable(value = CacheConfig.QUIZ_QUESTION_LISTS,
+            key = "(#difficulty != null ? #difficulty.name() : 'ALL') + ':' + #fields")
+    public List<Map<String, Object>> listQuestionFields(QuizDifficulty difficulty, String fields) {
+        Set<String> selected = FieldSelection.parse(fields, SELECTABLE_FIELDS);
+        Specification<QuizQuestionEntity> byDifficulty = difficulty == null
+                ? null
+                : (root, query, cb) -> cb.equal(root.get("difficulty"), difficulty);
+        List<Map<String, Object>> rows = fieldProjectionRepository.findFields(
+                QuizQuestionEntity.class, selected, byDifficulty, Sort.by("createdAt"), 0);
+        rows.forEach(row -> row.computeIfPresent("options", (field, json) -> RawJson.of((String) json)));
+        return rows;
+    }
+
+    @Override
+    @Cacheable(value = CacheConfig.QUIZ_QUESTIONS, key = "#id")
+    public QuizPublicQuestionDto getQuestion(UUID id) {
+        return questionMapper.toPublicDto(findQuestion(id));
     }
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.QUIZ_QUESTION_LISTS, allEntries = true),
+            @CacheEvict(value = CacheConfig.WATERMARKS, key = "'quizQuestions'")
+    })
     public QuizQuestionDto createQuestion(QuizQuestionDto dto) {
         QuizQuestionEntity entity = questionMapper.toEntity(dto);
-        return questionMapper.toDto(questionRepository.save(entity));
+        QuizQuestionDto saved = questionMapper.toDto(questionRepository.save(entity));
+        questionPool.refresh();
+        return saved;
     }
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.QUIZ_QUESTIONS, key = "#id"),
+            @CacheEvict(value = CacheConfig.QUIZ_QUESTION_LISTS, allEntries = true),
+            @CacheEvict(value = CacheConfig.WATERMARKS, key = "'quizQuestions'")
+    })
     public QuizQuestionDto updateQuestion(UUID id, QuizQuestionDto dto) {
         QuizQuestionEntity entity = findQuestion(id);
         questionMapper.updateEntityFromDto(dto, entity);
-        return questionMapper.toDto(questionRepository.save(entity));
+        QuizQuestionDto saved = questionMapper.toDto(questionRepository.save(entity));
+        questionPool.refresh();
+        return saved;
     }
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.QUIZ_QUESTIONS, key = "#id"),
+            @CacheEvict(value = CacheConfig.QUIZ_QUESTION_LISTS, allEntries = true),
+            @CacheEvict(value = CacheConfig.WATERMARKS, key = "'quizQuestions'")
+    })
     public void deleteQuestion(UUID id) {
         QuizQuestionEntity entity = findQuestion(id);
         questionRepository.delete(entity);
+        questionPool.refresh();
     }
 
     @Override
     @Transactional
     public QuizResultDto recordResult(QuizResultDto dto) {
         QuizResultEntity entity = resultMapper.toEntity(dto);
-        return resultMapper.toDto(resultRepository.save(entity));
+        if (entity.getCompletedAt() == null) {
+            entity.setCompletedAt(OffsetDateTime.now());
+        }
+        QuizResultEntity saved = resultRepository.save(entity);
+
+        double percentage = saved.getMaxScore() > 0 ? saved.getScore() * 100.0 / saved.getMaxScore() : 0;
+        LocalDate playedOn = saved.getCompletedAt().atZoneSameInstant(ZoneOffset.UTC).toLocalDate();
+        userStatsRepository.record(saved.getUsername(), saved.getScore(), percentage, playedOn);
+        return resultMapper.toDto(saved);
+    }
+
+    @Override
+    public CursorPageDto<QuizResultDto> listResultsForUser(String username, String cursor, Integer limit) {
+        int pageSize = KeysetCursor.clampLimit(limit, DEFAULT_RESULT_PAGE_SIZE, MAX_RESULT_PAGE_SIZE);
+
+        // Bir fazla satır çekerek sonraki sayfanın varlığını ayrı bir COUNT olmadan anlıyoruz
+        List<QuizResultEntity> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = resultRepository.findFirstPageByUsername(username, pageSize + 1);
+        } else {
+            KeysetCursor keyset = KeysetCursor.decode(cursor);
+            rows = resultRepository.findPageByUsernameBefore(username, parseCompletedAt(keyset), keyset.id(), pageSize + 1);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<QuizResultEntity> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            QuizResultEntity last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCompletedAt().toString(), last.getId()).encode();
+        }
+
+        return new CursorPageDto<>(page.stream().map(resultMapper::toDto).toList(), nextCursor);
     }
 
     @Override
-    public List<QuizResultDto> listResultsForUser(String username) {
-        return resultRepository.findAllByUsernameOrderByCompletedAtDesc(username)
+    public QuizUserStatsDto getUserStats(String username) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        return userStatsRepository.findByUsername(username)
+                .map(stats -> withLapsedStreak(stats, today))
+                .orElseThrow(() -> new EntityNotFoundException("Quiz stats not found: " + username));
+    }
+
+    @Override
+    public List<QuizUserStatsDto> getLeaderboard(int limit) {
+        if (limit < 1 || limit > MAX_LEADERBOARD_SIZE) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_LEADERBOARD_SIZE);
+        }
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        return userStatsRepository.findLeaderboard(limit)
                 .stream()
-                .map(resultMapper::toDto)
+                .map(stats -> withLapsedStreak(stats, today))
                 .toList();
     }
 
     @Override
-    public List<QuizQuestionDto> getRandomQuestions(int count, QuizDifficulty difficulty) {
-        List<QuizQuestionEntity> allQuestions = (difficulty != null)
-                ? questionRepository.findAllByDifficultyOrderByCreatedAtAsc(difficulty)
-                : questionRepository.findAll();
+    public List<QuizPublicQuestionDto> getRandomQuestions(int count, QuizDifficulty difficulty) {
+        // Veritabanına gitmez; havuz soru değişikliklerinde commit sonrası yenilenir
+        return questionPool.sample(count, difficulty).stream()
+                .map(QuizPublicQuestionDto::of)
+                .toList();
+    }
 
-        Collections.shuffle(allQuestions);
+    @Override
+    @Cacheable(value = CacheConfig.WATERMARKS, key = "'quizQuestions'")
+    public Watermark currentQuestionWatermark() {
+        return questionRepository.findWatermark();
+    }
 
-        return allQuestions.stream()
-                .limit(count)
-                .map(questionMapper::toDto)
-                .toList();
+    @Override
+    public Watermark questionWatermarkOf(UUID id) {
+        return questionRepository.findWatermarkById(id);
+    }
+
+    // Seri sadece sonuç kaydedilirken güncellenir; oynanmayan günler okurken düşülür
+    private static QuizUserStatsDto withLapsedStreak(QuizUserStatsDto stats, LocalDate today) {
+        if (!stats.lastPlayedOn().isBefore(today.minusDays(1))) {
+            return stats;
+        }
+        return new QuizUserStatsDto(stats.username(), stats.attempts(), stats.bestScore(),
+                stats.averagePercentage(), 0, stats.longestStreak(), stats.lastPlayedOn());
+    }
+
+    private OffsetDateTime parseCompletedAt(KeysetCursor keyset) {
+        try {
+            return OffsetDateTime.parse(keyset.key());
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
     }
 
     private QuizQuestionEntity findQuestion(UUID id) {
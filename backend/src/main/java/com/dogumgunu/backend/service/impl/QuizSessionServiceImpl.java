@@ -0,0 +1,284 @@
+package com.dogumgunu.backend.service.impl;
+
+import com.dogumgunu.backend.dto.QuizAnswerDto;
+import com.dogumgunu.backend.dto.QuizAnswerResultDto;
+import com.dogumgunu.backend.dto.QuizPublicQuestionDto;
+import com.dogumgunu.backend.dto.QuizQuestionDto;
+import com.dogumgunu.backend.dto.QuizResultDto;
+import com.dogumgunu.backend.dto.QuizSessionDto;
+import com.dogumgunu.backend.enums.QuizDifficulty;
+import com.dogumgunu.backend.exception.BadRequestException;
+import com.dogumgunu.backend.service.QuizAnswerAnalyticsService;
+import com.dogumgunu.backend.service.QuizService;
+import com.dogumgunu.backend.service.QuizSessionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Quiz oturumlarını bellekte tutar ve cevapları sunucuda notlar. Oturum başına sadece
+ * soru id'leri, doğru cevaplar ve seçilen cevaplar saklanır; cevaplar CAS ile yazılır,
+ * kilit ve cevap başına veritabanı yazımı yoktur. Sonuç yalnızca bitirişte kaydedilir.
+ */
+@Slf4j
+@Service
+public class QuizSessionServiceImpl implements QuizSessionService {
+
+    private static final int UNANSWERED = -1;
+    // Bitirişte cevaplanmamış sorular bu değerle kapatılır ki geç gelen cevaplar yazılamasın
+    private static final int CLOSED = -2;
+
+    private final QuizQuestionPool questionPool;
+    private final QuizService quizService;
+    private final QuizAnswerAnalyticsService answerAnalyticsService;
+    private final Duration ttl;
+    private final int maxSessions;
+    private final int maxQuestions;
+    private final int pointsPerQuestion;
+
+    private final Map<UUID, Session> sessions = new ConcurrentHashMap<>();
+    // Sınır map boyutundan değil bu sayaçtan kontrol edilir; yer önce ayrılır, sonra eklenir
+    private final AtomicInteger sessionCount = new AtomicInteger();
+
+    private final Counter rejectedCounter;
+    private final Counter expiredCounter;
+
+    public QuizSessionServiceImpl(
+            QuizQuestionPool questionPool,
+            QuizService quizService,
+            QuizAnswerAnalyticsService answerAnalyticsService,
+            MeterRegistry meterRegistry,
+            @Value("${app.quiz.session.ttl}") Duration ttl,
+            @Value("${app.quiz.session.max-sessions}") int maxSessions,
+            @Value("${app.quiz.session.max-questions}") int maxQuestions,
+            @Value("${app.quiz.session.points-per-question}") int pointsPerQuestion) {
+        this.questionPool = questionPool;
+        this.quizService = quizService;
+        this.answerAnalyticsService = answerAnalyticsService;
+        this.ttl = ttl;
+        this.maxSessions = maxSessions;
+        this.maxQuestions = maxQuestions;
+        this.pointsPerQuestion = pointsPerQuestion;
+
+        this.rejectedCounter = meterRegistry.counter("quiz.sessions.rejected");
+        this.expiredCounter = meterRegistry.counter("quiz.sessions.expired");
+        Gauge.builder("quiz.sessions.active", sessionCount, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public QuizSessionDto start(String username, int count, QuizDifficulty difficulty) {
+        if (count < 1 || count > maxQuestions) {
+            throw new BadRequestException("count must be between 1 and " + maxQuestions);
+        }
+
+        List<QuizQuestionDto> questions = questionPool.sample(count, difficulty);
+        if (questions.isEmpty()) {
+            throw new EntityNotFoundException("No quiz questions available");
+        }
+
+        if (!tryReserve()) {
+            evictExpired();
+            if (!tryReserve()) {
+                rejectedCounter.increment();
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many active quiz sessions");
+            }
+        }
+
+        UUID sessionId = UUID.randomUUID();
+        sessions.put(sessionId, new Session(username, questions, System.nanoTime() + ttl.toNanos()));
+
+        return new QuizSessionDto(
+                sessionId,
+                questions.stream().map(QuizPublicQuestionDto::of).toList(),
+                pointsPerQuestion,
+                OffsetDateTime.now().plus(ttl));
+    }
+
+    @Override
+    public QuizAnswerResultDto answer(UUID sessionId, String username, QuizAnswerDto answer) {
+        Session session = findSession(sessionId, username);
+        int index = session.indexOf(answer.questionId());
+        if (index < 0) {
+            throw new BadRequestException("Question is not part of this session: " + answer.questionId());
+        }
+        if (answer.selectedOption() < 0) {
+            throw new BadRequestException("selectedOption must not be negative");
+        }
+
+        int selected = answer.selectedOption();
+        if (!session.selected.compareAndSet(index, UNANSWERED, selected)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Question already answered or session finished");
+        }
+        long elapsedNanos = session.touch(ttl);
+        boolean correct = selected == session.correctOptions[index];
+        answerAnalyticsService.record(answer.questionId(), correct, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+
+        // Açıklama oturumda tutulmaz; soru silinmişse boş döner
+        QuizQuestionDto question = questionPool.find(answer.questionId());
+        return new QuizAnswerResultDto(
+                correct,
+                session.correctOptions[index],
+                question != null ? question.explanation() : null,
+                session.correctCount() * pointsPerQuestion,
+                session.answeredCount());
+    }
+
+    @Override
+    public QuizResultDto finish(UUID sessionId, String username, String messageShown) {
+        Session session = findSession(sessionId, username);
+        // Aynı oturumu iki kez bitirme yarışını sadece bir çağrı kazanır
+        if (!remove(sessionId, session)) {
+            throw new EntityNotFoundException("Quiz session not found: " + sessionId);
+        }
+        session.close();
+
+        QuizResultDto result = new QuizResultDto(
+                null,
+                session.username,
+                session.correctCount() * pointsPerQuestion,
+                session.questionIds.length * pointsPerQuestion,
+                OffsetDateTime.now(),
+                messageShown);
+        return quizService.recordResult(result);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.quiz.session.sweep-interval}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (Map.Entry<UUID, Session> entry : sessions.entrySet()) {
+            if (entry.getValue().isExpired(now) && remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            expiredCounter.increment(evicted);
+            log.debug("Evicted {} expired quiz sessions", evicted);
+        }
+    }
+
+    private Session findSession(UUID sessionId, String username) {
+        Session session = sessions.get(sessionId);
+        if (session != null && session.isExpired(System.nanoTime()) && remove(sessionId, session)) {
+            expiredCounter.increment();
+            session = null;
+        }
+        // Başka kullanıcının oturumu da bulunamadı olarak döner
+        if (session == null || !session.username.equals(username)) {
+            throw new EntityNotFoundException("Quiz session not found: " + sessionId);
+        }
+        return session;
+    }
+
+    private boolean tryReserve() {
+        int current;
+        do {
+            current = sessionCount.get();
+            if (current >= maxSessions) {
+                return false;
+            }
+        } while (!sessionCount.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private boolean remove(UUID sessionId, Session session) {
+        if (sessions.remove(sessionId, session)) {
+            sessionCount.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private static final class Session {
+
+        private final String username;
+        private final UUID[] questionIds;
+        private final short[] correctOptions;
+        private final AtomicIntegerArray selected;
+        private volatile long lastActivityNanos;
+        private volatile long expiresAtNanos;
+
+        Session(String username, List<QuizQuestionDto> questions, long expiresAtNanos) {
+            this.username = username;
+            this.questionIds = new UUID[questions.size()];
+            this.correctOptions = new short[questions.size()];
+            this.selected = new AtomicIntegerArray(questions.size());
+            for (int i = 0; i < questionIds.length; i++) {
+                questionIds[i] = questions.get(i).id();
+                correctOptions[i] = questions.get(i).correctOption();
+                selected.set(i, UNANSWERED);
+            }
+            this.lastActivityNanos = System.nanoTime();
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        int indexOf(UUID questionId) {
+            for (int i = 0; i < questionIds.length; i++) {
+                if (questionIds[i].equals(questionId)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int correctCount() {
+            int correct = 0;
+            for (int i = 0; i < correctOptions.length; i++) {
+                if (selected.get(i) == correctOptions[i]) {
+                    correct++;
+                }
+            }
+            return correct;
+        }
+
+        int answeredCount() {
+            int answered = 0;
+            for (int i = 0; i < questionIds.length; i++) {
+                if (selected.get(i) >= 0) {
+                    answered++;
+                }
+            }
+            return answered;
+        }
+
+        void close() {
+            for (int i = 0; i < questionIds.length; i++) {
+                selected.compareAndSet(i, UNANSWERED, CLOSED);
+            }
+        }
+
+        /**
+         * Süreyi uzatır ve önceki etkinlikten (başlangıç ya da önceki cevap) bu yana
+         * geçen süreyi döner; cevap süresi olarak kullanılır.
+         */
+        long touch(Duration ttl) {
+            long now = System.nanoTime();
+            long elapsed = now - lastActivityNanos;
+            lastActivityNanos = now;
+            expiresAtNanos = now + ttl.toNanos();
+            return elapsed;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.dogumgunu.backend.service.impl;
+
+import com.dogumgunu.backend.common.pagination.KeysetCursor;
+import com.dogumgunu.backend.dto.SearchResultDto;
+import com.dogumgunu.backend.exception.BadRequestException;
+import com.dogumgunu.backend.repository.SearchRepository;
+import com.dogumgunu.backend.service.SearchService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchServiceImpl implements SearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private final SearchRepository searchRepository;
+
+    @Override
+    public List<SearchResultDto> search(String query, Integer page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+
+        int pageSize = KeysetCursor.clampLimit(size, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+        int pageNumber = page != null && page > 0 ? page : 0;
+        return searchRepository.search(query.trim(), pageSize, pageNumber * pageSize);
+    }
+}
@@ -0,0 +1,22 @@
+package com.dogumgunu.backend.service.impl;
+
+import java.util.UUID;
+
+/**
+ * Depolama implementasyonlarının ortak nesne adı üretimi: {@code klasör/uuid.uzantı}
+ */
+final class StorageObjectNames {
+
+    private StorageObjectNames() {
+    }
+
+    static String newObjectName(String folder, String originalFilename) {
+        return folder + "/" + UUID.randomUUID() + extensionOf(originalFilename);
+    }
+
+    static String extensionOf(String originalFilename) {
+        return originalFilename != null && originalFilename.contains(".")
+                ? originalFilename.substring(originalFilename.lastIndexOf("."))
+                : "";
+    }
+}
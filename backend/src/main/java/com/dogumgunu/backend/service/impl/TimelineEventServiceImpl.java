@@ -1,16 +1,51 @@
 package com.dogumgunu.backend.service.impl;
 
+import com.dogumgunu.backend.common.config.CacheConfig;
+import com.dogumgunu.backend.common.domain.MediaDerivatives;
+import com.dogumgunu.backend.common.domain.Watermark;
+import com.dogumgunu.backend.common.json.RawJson;
+import com.dogumgunu.backend.common.pagination.KeysetCursor;
+import com.dogumgunu.backend.common.query.FieldSelection;
+import com.dogumgunu.backend.dto.CursorPageDto;
 import com.dogumgunu.backend.dto.TimelineEventDto;
+import com.dogumgunu.backend.dto.TimelineHistogramBucketDto;
+import com.dogumgunu.backend.enums.MediaStatus;
+import com.dogumgunu.backend.enums.TimelineInteractionType;
+import com.dogumgunu.backend.exception.BadRequestException;
 import com.dogumgunu.backend.mapper.TimelineEventMapper;
 import com.dogumgunu.backend.model.TimelineEventEntity;
+import com.dogumgunu.backend.repository.FieldProjectionRepository;
+import com.dogumgunu.backend.repository.MediaObjectRepository;
 import com.dogumgunu.backend.repository.TimelineEventRepository;
-import com.dogumgunu.backend.service.FirebaseStorageService;
+import com.dogumgunu.backend.service.MediaDeletionService;
 import com.dogumgunu.backend.service.TimelineEventService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,24 +54,98 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class TimelineEventServiceImpl implements TimelineEventService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int EXPORT_FLUSH_INTERVAL = 256;
+    private static final int MAX_BULK_SIZE = 1000;
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "eventDate", "id");
+    private static final Set<String> SELECTABLE_FIELDS = Set.of(
+            "id", "title", "eventDate", "description", "mediaUrl", "mediaStatus", "mediaVariants",
+            "mediaPlaceholder", "interactionType", "interactionPayload");
+
     private final TimelineEventRepository repository;
+    private final FieldProjectionRepository fieldProjectionRepository;
     private final TimelineEventMapper mapper;
-    private final FirebaseStorageService firebaseStorageService;
+    private final MediaDeletionService mediaDeletionService;
+    private final MediaObjectRepository mediaObjectRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
 
     @Override
-    public List<TimelineEventDto> listAll() {
-        return repository.findAll()
-                .stream()
-                .map(mapper::toDto)
-                .toList();
+    @Cacheable(CacheConfig.TIMELINE_PAGES)
+    public CursorPageDto<TimelineEventDto> listPage(String cursor, Integer limit) {
+        int pageSize = KeysetCursor.clampLimit(limit, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+
+        // Bir fazla satır çekerek sonraki sayfanın varlığını ayrı bir COUNT olmadan anlıyoruz
+        List<TimelineEventEntity> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = repository.findFirstPage(pageSize + 1);
+        } else {
+            KeysetCursor keyset = KeysetCursor.decode(cursor);
+            rows = repository.findPageBefore(parseEventDate(keyset), keyset.id(), pageSize + 1);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<TimelineEventEntity> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            TimelineEventEntity last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getEventDate().toString(), last.getId()).encode();
+        }
+
+        return new CursorPageDto<>(page.stream().map(mapper::toDto).toList(), nextCursor);
+    }
+
+    @Override
+    @Cacheable(CacheConfig.TIMELINE_PAGES)
+    public CursorPageDto<Map<String, Object>> listPageFields(String cursor, Integer limit, String fields) {
+        Set<String> requested = FieldSelection.parse(fields, SELECTABLE_FIELDS);
+        // Sonraki cursor için eventDate her zaman okunur, istenmediyse yanıttan çıkarılır
+        Set<String> selected = new LinkedHashSet<>(requested);
+        selected.add("eventDate");
+
+        int pageSize = KeysetCursor.clampLimit(limit, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+        Specification<TimelineEventEntity> after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor keyset = KeysetCursor.decode(cursor);
+            LocalDate eventDate = parseEventDate(keyset);
+            after = (root, query, cb) -> cb.or(
+                    cb.lessThan(root.<LocalDate>get("eventDate"), eventDate),
+                    cb.and(
+                            cb.equal(root.get("eventDate"), eventDate),
+                            cb.lessThan(root.<UUID>get("id"), keyset.id())));
+        }
+
+        List<Map<String, Object>> rows = fieldProjectionRepository.findFields(
+                TimelineEventEntity.class, selected, after, KEYSET_SORT, pageSize + 1);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Map<String, Object>> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            Map<String, Object> last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.get("eventDate").toString(), (UUID) last.get("id")).encode();
+        }
+        for (Map<String, Object> row : page) {
+            if (!requested.contains("eventDate")) {
+                row.remove("eventDate");
+            }
+            row.computeIfPresent("interactionPayload", (field, json) -> RawJson.of((String) json));
+        }
+
+        return new CursorPageDto<>(page, nextCursor);
     }
 
     @Override
+    @Cacheable(value = CacheConfig.TIMELINE_EVENTS, key = "#id")
     public TimelineEventDto getById(UUID id) {
         return mapper.toDto(findEntity(id));
     }
 
     @Override
+    @Cacheable(CacheConfig.TIMELINE_RANGES)
     public List<TimelineEventDto> listBetween(LocalDate startDate, LocalDate endDate) {
         return repository.findAllByEventDateBetweenOrderByEventDateAsc(startDate, endDate)
                 .stream()
@@ -44,27 +153,276 @@ public class TimelineEventServiceImpl implements TimelineEventService {
                 .toList();
     }
 
+    @Override
+    @Cacheable(value = CacheConfig.TIMELINE_ON_THIS_DAY, key = "#monthDay.toString()")
+    public List<TimelineEventDto> listOnThisDay(MonthDay monthDay) {
+        int key = monthDay.getMonthValue() * 100 + monthDay.getDayOfMonth();
+        return repository.findAllByMonthDay(key)
+                .stream()
+                .map(mapper::toDto)
+                .toList();
+    }
+
+    @Override
+    @Cacheable(value = CacheConfig.TIMELINE_HISTOGRAMS,
+            key = "#interactionType != null ? #interactionType.name() : 'ALL'")
+    public List<TimelineHistogramBucketDto> monthlyHistogram(TimelineInteractionType interactionType) {
+        String type = interactionType != null ? interactionType.name() : null;
+        return repository.countByMonth(type)
+                .stream()
+                .map(row -> new TimelineHistogramBucketDto(row.getYear(), row.getMonth(), row.getEventCount()))
+                .toList();
+    }
+
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.TIMELINE_PAGES, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_RANGES, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_ON_THIS_DAY, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_HISTOGRAMS, allEntries = true),
+            @CacheEvict(value = CacheConfig.WATERMARKS, key = "'timeline'")
+    })
     public TimelineEventDto create(TimelineEventDto dto) {
         TimelineEventEntity entity = mapper.toEntity(dto);
+        acquireMedia(entity.getMediaUrl());
+        return mapper.toDto(repository.save(entity));
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.TIMELINE_EVENTS, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_PAGES, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_RANGES, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_ON_THIS_DAY, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_HISTOGRAMS, allEntries = true),
+            @CacheEvict(value = CacheConfig.WATERMARKS, key = "'timeline'")
+    })
+    public List<TimelineEventDto> bulkUpsert(List<TimelineEventDto> dtos) {
+        if (dtos == null || dtos.isEmpty()) {
+            return List.of();
+        }
+        if (dtos.size() > MAX_BULK_SIZE) {
+            throw new BadRequestException("At most " + MAX_BULK_SIZE + " events can be sent at once");
+        }
+
+        // Güncellenecek satırları tek sorguda çekiyoruz
+        List<UUID> ids = dtos.stream().map(TimelineEventDto::id).filter(Objects::nonNull).toList();
+        Map<UUID, TimelineEventEntity> existing = repository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(TimelineEventEntity::getId, Function.identity()));
+
+        List<TimelineEventEntity> entities = new ArrayList<>(dtos.size());
+        for (TimelineEventDto dto : dtos) {
+            if (dto.id() == null) {
+                TimelineEventEntity entity = mapper.toEntity(dto);
+                acquireMedia(entity.getMediaUrl());
+                entities.add(entity);
+                continue;
+            }
+            TimelineEventEntity entity = existing.get(dto.id());
+            if (entity == null) {
+                throw new EntityNotFoundException("Timeline event not found: " + dto.id());
+            }
+            applyUpdate(dto, entity);
+            entities.add(entity);
+        }
+
+        return repository.saveAll(entities)
+                .stream()
+                .map(mapper::toDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.TIMELINE_PAGES, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_RANGES, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_ON_THIS_DAY, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_HISTOGRAMS, allEntries = true),
+            @CacheEvict(value = CacheConfig.WATERMARKS, key = "'timeline'")
+    })
+    public List<TimelineEventDto> createWithUploadedMedia(List<TimelineEventDto> dtos) {
+        List<TimelineEventEntity> entities = new ArrayList<>(dtos.size());
+        for (TimelineEventDto dto : dtos) {
+            TimelineEventEntity entity = mapper.toEntity(dto);
+            entity.setMediaVariants(dto.mediaVariants());
+            entity.setMediaPlaceholder(dto.mediaPlaceholder());
+            entities.add(entity);
+        }
+        return repository.saveAll(entities)
+                .stream()
+                .map(mapper::toDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.TIMELINE_PAGES, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_RANGES, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_ON_THIS_DAY, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_HISTOGRAMS, allEntries = true),
+            @CacheEvict(value = CacheConfig.WATERMARKS, key = "'timeline'")
+    })
+    public TimelineEventDto createWithPendingMedia(TimelineEventDto dto) {
+        TimelineEventEntity entity = mapper.toEntity(dto);
+        entity.setMediaUrl(null);
+        entity.setMediaStatus(MediaStatus.PENDING);
         return mapper.toDto(repository.save(entity));
     }
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.TIMELINE_EVENTS, key = "#id"),
+            @CacheEvict(value = CacheConfig.TIMELINE_PAGES, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_RANGES, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_ON_THIS_DAY, allEntries = true),
+            @CacheEvict(value = CacheConfig.WATERMARKS, key = "'timeline'")
+    })
+    public void completeMediaUpload(UUID id, String mediaUrl, MediaDerivatives derivatives, MediaStatus status) {
+        TimelineEventEntity entity = findEntity(id);
+        entity.setMediaUrl(mediaUrl);
+        entity.setMediaVariants(derivatives.variants());
+        entity.setMediaPlaceholder(derivatives.placeholder());
+        entity.setMediaStatus(status);
+        repository.save(entity);
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.TIMELINE_EVENTS, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_PAGES, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_RANGES, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_ON_THIS_DAY, allEntries = true),
+            @CacheEvict(value = CacheConfig.WATERMARKS, key = "'timeline'")
+    })
+    public int failPendingMediaUploads() {
+        return repository.updateMediaStatus(MediaStatus.PENDING, MediaStatus.FAILED);
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.TIMELINE_EVENTS, key = "#id"),
+            @CacheEvict(value = CacheConfig.TIMELINE_PAGES, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_RANGES, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_ON_THIS_DAY, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_HISTOGRAMS, allEntries = true),
+            @CacheEvict(value = CacheConfig.WATERMARKS, key = "'timeline'")
+    })
     public TimelineEventDto update(UUID id, TimelineEventDto dto) {
         TimelineEventEntity entity = findEntity(id);
-        mapper.updateEntityFromDto(dto, entity);
+        applyUpdate(dto, entity);
         return mapper.toDto(repository.save(entity));
     }
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.TIMELINE_EVENTS, key = "#id"),
+            @CacheEvict(value = CacheConfig.TIMELINE_PAGES, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_RANGES, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_ON_THIS_DAY, allEntries = true),
+            @CacheEvict(value = CacheConfig.TIMELINE_HISTOGRAMS, allEntries = true),
+            @CacheEvict(value = CacheConfig.WATERMARKS, key = "'timeline'")
+    })
     public void delete(UUID id) {
         TimelineEventEntity entity = findEntity(id);
         repository.delete(entity);
-        firebaseStorageService.deleteFile(entity.getMediaUrl());
+
+        List<String> mediaUrls = new ArrayList<>();
+        mediaUrls.add(entity.getMediaUrl());
+        if (entity.getMediaVariants() != null) {
+            mediaUrls.addAll(entity.getMediaVariants().values());
+        }
+        mediaDeletionService.scheduleDeletion(mediaUrls);
+    }
+
+    @Override
+    public void exportNdjson(OutputStream out) {
+        try (Stream<TimelineEventEntity> rows = repository.streamAllOrderByEventDate();
+             SequenceWriter writer = objectMapper.writerFor(TimelineEventDto.class)
+                     .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+            int written = 0;
+            for (TimelineEventEntity entity : (Iterable<TimelineEventEntity>) rows::iterator) {
+                writer.write(mapper.toDto(entity));
+                // Persistence context'in satırları biriktirmemesi için her satırı bırakıyoruz
+                entityManager.detach(entity);
+                if (++written % EXPORT_FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+            if (written > 0) {
+                writer.flush();
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Timeline export failed", e);
+        }
+    }
+
+    @Override
+    @Cacheable(value = CacheConfig.WATERMARKS, key = "'timeline'")
+    public Watermark currentWatermark() {
+        return repository.findWatermark();
+    }
+
+    @Override
+    public Watermark watermarkOf(UUID id) {
+        return repository.findWatermarkById(id);
+    }
+
+    /**
+     * DTO'yu mevcut satıra uygular. Medya değiştiyse eski türevler temizlenir ve eski dosyalar
+     * silinmek üzere kuyruğa alınır.
+     */
+    private void applyUpdate(TimelineEventDto dto, TimelineEventEntity entity) {
+        String previousMediaUrl = entity.getMediaUrl();
+        Map<String, String> previousVariants = entity.getMediaVariants();
+        mapper.updateEntityFromDto(dto, entity);
+
+        // Türevler eski görsele aittir; kart 640 varyantını tercih ettiği için eski foto görünmeye devam ederdi
+        if (!Objects.equals(previousMediaUrl, entity.getMediaUrl())) {
+            acquireMedia(entity.getMediaUrl());
+            entity.setMediaVariants(null);
+            entity.setMediaPlaceholder(null);
+
+            // Eski asıl dosya da artık hiçbir satıra ait değil
+            List<String> staleUrls = new ArrayList<>();
+            staleUrls.add(previousMediaUrl);
+            if (previousVariants != null) {
+                staleUrls.addAll(previousVariants.values());
+            }
+            mediaDeletionService.scheduleDeletion(staleUrls);
+        }
+    }
+
+    /**
+     * İstemcinin verdiği medya URL'i için satır adına referans alır. Referanssız bir satır silinirken
+     * nesne başka olaylar tarafından kullanılıyor olsa bile depodan silinirdi.
+     */
+    private void acquireMedia(String mediaUrl) {
+        if (mediaUrl == null || mediaUrl.isBlank()) {
+            return;
+        }
+        if (!mediaObjectRepository.acquireUrl(mediaUrl)) {
+            throw new BadRequestException("mediaUrl must reference an uploaded object: " + mediaUrl);
+        }
+    }
+
+    private LocalDate parseEventDate(KeysetCursor keyset) {
+        try {
+            return LocalDate.parse(keyset.key());
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
     }
 
     private TimelineEventEntity findEntity(UUID id) {
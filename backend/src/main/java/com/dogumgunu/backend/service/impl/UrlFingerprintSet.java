@@ -0,0 +1,56 @@
+package com.dogumgunu.backend.service.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * URL başına 8 byte tutan salt-okunur küme: SHA-256'nın ilk 64 biti sıralı bir long[] içinde.
+ * Çakışma yalnızca yanlış pozitif üretir; GC açısından bu, bir nesnenin silinmeden kalması demektir.
+ * Query string karşılaştırmaya dahil edilmez.
+ */
+final class UrlFingerprintSet {
+
+    private long[] fingerprints = new long[1024];
+    private int size;
+    private boolean sealed;
+
+    void add(String url) {
+        if (sealed) {
+            throw new IllegalStateException("Set is sealed");
+        }
+        if (size == fingerprints.length) {
+            fingerprints = Arrays.copyOf(fingerprints, size * 2);
+        }
+        fingerprints[size++] = fingerprint(url);
+    }
+
+    void seal() {
+        Arrays.sort(fingerprints, 0, size);
+        sealed = true;
+    }
+
+    boolean mightContain(String url) {
+        if (!sealed) {
+            throw new IllegalStateException("Set is not sealed");
+        }
+        return Arrays.binarySearch(fingerprints, 0, size, fingerprint(url)) >= 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static long fingerprint(String url) {
+        int queryIndex = url.indexOf('?');
+        String normalized = queryIndex != -1 ? url.substring(0, queryIndex) : url;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
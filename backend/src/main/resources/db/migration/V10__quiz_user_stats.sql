@@ -0,0 +1,52 @@
+-- Per-user quiz aggregate, upserted in the same transaction as each quiz result
+CREATE TABLE quiz_user_stats (
+    username VARCHAR(64) PRIMARY KEY,
+    attempts INT NOT NULL,
+    best_score INT NOT NULL,
+    -- Average percentage is percentage_sum / attempts
+    percentage_sum NUMERIC(14, 4) NOT NULL,
+    -- Streaks count consecutive UTC days with at least one completed quiz
+    current_streak INT NOT NULL,
+    longest_streak INT NOT NULL,
+    last_played_on DATE NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    CONSTRAINT chk_quiz_user_stats_attempts CHECK (attempts > 0)
+);
+
+CREATE INDEX idx_quiz_user_stats_leaderboard ON quiz_user_stats (best_score DESC, percentage_sum DESC);
+
+-- Backfill from existing history; streaks are the gaps-and-islands runs of played days
+WITH played_days AS (
+    SELECT DISTINCT username, (completed_at AT TIME ZONE 'UTC')::date AS played_on
+    FROM quiz_results
+),
+islands AS (
+    SELECT username, played_on,
+           played_on - (ROW_NUMBER() OVER (PARTITION BY username ORDER BY played_on))::int AS island
+    FROM played_days
+),
+runs AS (
+    SELECT username, COUNT(*) AS run_length, MAX(played_on) AS run_end
+    FROM islands
+    GROUP BY username, island
+),
+streaks AS (
+    SELECT username,
+           MAX(run_length) AS longest_streak,
+           (ARRAY_AGG(run_length ORDER BY run_end DESC))[1] AS current_streak,
+           MAX(run_end) AS last_played_on
+    FROM runs
+    GROUP BY username
+),
+totals AS (
+    SELECT username,
+           COUNT(*) AS attempts,
+           MAX(score) AS best_score,
+           SUM(CASE WHEN max_score > 0 THEN score * 100.0 / max_score ELSE 0 END) AS percentage_sum
+    FROM quiz_results
+    GROUP BY username
+)
+INSERT INTO quiz_user_stats (username, attempts, best_score, percentage_sum, current_streak, longest_streak, last_played_on)
+SELECT t.username, t.attempts, t.best_score, t.percentage_sum, s.current_streak, s.longest_streak, s.last_played_on
+FROM totals t
+JOIN streaks s ON s.username = t.username;
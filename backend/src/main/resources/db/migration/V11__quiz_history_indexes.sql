@@ -0,0 +1,6 @@
+-- Keyset pagination of a user's results on (completed_at DESC, id DESC)
+CREATE INDEX idx_quiz_results_username_completed_at ON quiz_results (username, completed_at DESC, id DESC);
+
+-- Serves findAllByDifficultyOrderByCreatedAtAsc without a sort; also covers plain difficulty lookups
+CREATE INDEX idx_quiz_questions_difficulty_created_at ON quiz_questions (difficulty, created_at);
+DROP INDEX IF EXISTS idx_quiz_questions_difficulty;
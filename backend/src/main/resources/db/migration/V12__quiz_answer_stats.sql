@@ -0,0 +1,10 @@
+-- Per-question answer aggregates, written in batches by the asynchronous analytics flusher
+CREATE TABLE quiz_answer_stats (
+    question_id UUID PRIMARY KEY REFERENCES quiz_questions(id) ON DELETE CASCADE,
+    attempts BIGINT NOT NULL,
+    correct_count BIGINT NOT NULL,
+    total_latency_ms BIGINT NOT NULL,
+    max_latency_ms INT NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    CONSTRAINT chk_quiz_answer_stats_counts CHECK (attempts > 0 AND correct_count BETWEEN 0 AND attempts)
+);
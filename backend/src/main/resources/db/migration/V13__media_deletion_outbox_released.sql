@@ -0,0 +1,2 @@
+-- Marks outbox rows whose reference was already released, so a retried dispatch only repeats the storage delete
+ALTER TABLE media_deletion_outbox ADD COLUMN released BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,5 @@
+-- Leaderboard orders by the average percentage, not the raw sum; the index must use the same
+-- expression as LEADERBOARD_SQL so ORDER BY ... LIMIT reads it in order without a sort
+CREATE INDEX idx_quiz_user_stats_leaderboard_avg
+    ON quiz_user_stats (best_score DESC, (percentage_sum / attempts) DESC, username);
+DROP INDEX IF EXISTS idx_quiz_user_stats_leaderboard;
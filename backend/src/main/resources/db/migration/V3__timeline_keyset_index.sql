@@ -0,0 +1,3 @@
+-- Keyset pagination on (event_date, id); the composite index also serves plain event_date lookups
+CREATE INDEX idx_timeline_event_date_id ON timeline_events(event_date, id);
+DROP INDEX IF EXISTS idx_timeline_event_date;
@@ -0,0 +1,3 @@
+-- "On this day" lookups match month and day across all years
+CREATE INDEX idx_timeline_month_day
+    ON timeline_events ((EXTRACT(MONTH FROM event_date) * 100 + EXTRACT(DAY FROM event_date)));
@@ -0,0 +1,24 @@
+-- Full-text search vectors kept current by Postgres as generated columns (Turkish configuration)
+
+ALTER TABLE timeline_events
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('turkish', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('turkish', coalesce(description, '')), 'B')
+    ) STORED;
+
+ALTER TABLE dream_plans
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('turkish', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('turkish', coalesce(description, '')), 'B') ||
+        setweight(to_tsvector('turkish', coalesce(extra_notes, '')), 'C')
+    ) STORED;
+
+ALTER TABLE quiz_questions
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('turkish', coalesce(question, '')), 'A') ||
+        setweight(to_tsvector('turkish', coalesce(explanation, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_timeline_search_vector ON timeline_events USING GIN (search_vector);
+CREATE INDEX idx_dream_plans_search_vector ON dream_plans USING GIN (search_vector);
+CREATE INDEX idx_quiz_questions_search_vector ON quiz_questions USING GIN (search_vector);
@@ -0,0 +1,4 @@
+-- Tracks background media uploads: PENDING until the file reaches storage
+ALTER TABLE timeline_events
+    ADD COLUMN media_status VARCHAR(16) NOT NULL DEFAULT 'READY',
+    ADD CONSTRAINT chk_timeline_media_status CHECK (media_status IN ('PENDING', 'READY', 'FAILED'));
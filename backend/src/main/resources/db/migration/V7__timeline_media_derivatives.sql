@@ -0,0 +1,4 @@
+-- Resized JPEG variants (width -> url) and an inline LQIP placeholder for timeline photos
+ALTER TABLE timeline_events
+    ADD COLUMN media_variants JSONB,
+    ADD COLUMN media_placeholder TEXT;
@@ -0,0 +1,11 @@
+-- Content-addressed index of stored media: identical uploads share one object
+CREATE TABLE media_objects (
+    digest CHAR(64) PRIMARY KEY,
+    url VARCHAR(512) NOT NULL,
+    size_bytes BIGINT NOT NULL,
+    ref_count INT NOT NULL DEFAULT 1,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    CONSTRAINT uq_media_objects_url UNIQUE (url),
+    CONSTRAINT chk_media_objects_ref_count CHECK (ref_count >= 0)
+);
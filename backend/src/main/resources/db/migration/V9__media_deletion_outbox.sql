@@ -0,0 +1,11 @@
+-- Media deletions are recorded in the deleting transaction and executed after commit by a dispatcher
+CREATE TABLE media_deletion_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    media_url VARCHAR(512) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    last_error TEXT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_media_deletion_outbox_next_attempt ON media_deletion_outbox (next_attempt_at);
@@ -0,0 +1,91 @@
+package com.dogumgunu.backend.common.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JSONB kolonunu yanıta yazarken ham metin ({@link RawJson}) ile önce ağaca parse etmeyi
+ * ({@link JsonNode}) karşılaştırır. Normal test çalıştırmasına girmez: {@code ./gradlew benchmark}
+ */
+@Tag("benchmark")
+class RawJsonBenchmarkTest {
+
+    private static final int ROWS = 500;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 1000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    record RawRow(int id, RawJson payload) {
+    }
+
+    record TreeRow(int id, JsonNode payload) {
+    }
+
+    @Test
+    void rowsPerSecond() throws IOException {
+        List<String> columns = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            columns.add(samplePayload(i));
+        }
+
+        // İki yol da aynı JSON'u üretmeli
+        assertThat(objectMapper.readTree(raw(columns))).isEqualTo(objectMapper.readTree(tree(columns)));
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            raw(columns);
+            tree(columns);
+        }
+
+        long started = System.nanoTime();
+        long rawBytes = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            rawBytes += raw(columns).length;
+        }
+        double rawSeconds = (System.nanoTime() - started) / 1e9;
+
+        started = System.nanoTime();
+        long treeBytes = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            treeBytes += tree(columns).length;
+        }
+        double treeSeconds = (System.nanoTime() - started) / 1e9;
+
+        long rows = (long) ROWS * MEASURED_ROUNDS;
+        System.out.printf("RawJson:  %d rows in %.2f s = %.0f rows/s (%d bytes)%n",
+                rows, rawSeconds, rows / rawSeconds, rawBytes);
+        System.out.printf("JsonNode: %d rows in %.2f s = %.0f rows/s (%d bytes)%n",
+                rows, treeSeconds, rows / treeSeconds, treeBytes);
+        System.out.printf("Speedup: %.2fx%n", treeSeconds / rawSeconds);
+    }
+
+    private byte[] raw(List<String> columns) throws IOException {
+        List<RawRow> rows = new ArrayList<>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            rows.add(new RawRow(i, RawJson.of(columns.get(i))));
+        }
+        return objectMapper.writeValueAsBytes(rows);
+    }
+
+    private byte[] tree(List<String> columns) throws IOException {
+        // Eski yol: kolon metni önce ağaca çevrilir, sonra tekrar serileştirilir
+        List<TreeRow> rows = new ArrayList<>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            rows.add(new TreeRow(i, objectMapper.readTree(columns.get(i))));
+        }
+        return objectMapper.writeValueAsBytes(rows);
+    }
+
+    private static String samplePayload(int i) {
+        return "{\"question\":\"Soru " + i + "\",\"options\":[\"Kırmızı\",\"Mavi\",\"Yeşil\",\"Sarı\"],"
+                + "\"answer\":" + (i % 4) + ",\"reveal\":{\"title\":\"Tebrikler\",\"confetti\":true,"
+                + "\"colors\":[\"#ff6b9d\",\"#ffd166\",\"#06d6a0\"],\"delayMs\":" + (i * 10) + "}}";
+    }
+}
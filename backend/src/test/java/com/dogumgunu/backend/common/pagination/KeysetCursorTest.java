@@ -0,0 +1,55 @@
+package com.dogumgunu.backend.common.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dogumgunu.backend.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+    private static final UUID ID = UUID.fromString("3f2504e0-4f89-11d3-9a0c-0305e82c3301");
+
+    @Test
+    void roundTripsKeyAndId() {
+        KeysetCursor cursor = new KeysetCursor("2024-05-17", ID);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(KeysetCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void keyMayContainSeparator() {
+        // Ayraç olarak son '|' kullanılır, anahtarın kendisi '|' içerebilir
+        KeysetCursor cursor = new KeysetCursor("2024-05-17T10:00:00Z|extra", ID);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64!")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("no-separator"))).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("|" + ID))).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("2024-05-17|not-a-uuid")))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void clampsLimit() {
+        assertThat(KeysetCursor.clampLimit(null, 50, 200)).isEqualTo(50);
+        assertThat(KeysetCursor.clampLimit(0, 50, 200)).isEqualTo(50);
+        assertThat(KeysetCursor.clampLimit(-3, 50, 200)).isEqualTo(50);
+        assertThat(KeysetCursor.clampLimit(20, 50, 200)).isEqualTo(20);
+        assertThat(KeysetCursor.clampLimit(1000, 50, 200)).isEqualTo(200);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
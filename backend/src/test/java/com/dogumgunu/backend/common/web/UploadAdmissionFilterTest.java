@@ -0,0 +1,118 @@
+package com.dogumgunu.backend.common.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+class UploadAdmissionFilterTest {
+
+    private static final String UPLOAD = "/api/timeline/upload";
+
+    private final AtomicInteger passed = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private UploadAdmissionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new UploadAdmissionFilter(new ObjectMapper().findAndRegisterModules(), meterRegistry,
+                1, DataSize.ofKilobytes(1024), DataSize.ofMegabytes(10), Duration.ofSeconds(7));
+    }
+
+    @Test
+    void rejectsWhileSlotIsTakenAndAdmitsAfterRelease() throws Exception {
+        AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+
+        // İlk yükleme sürerken gelen ikinci yükleme reddedilmeli
+        MockHttpServletResponse first = run(upload(10), (request, response) -> {
+            nested.set(run(upload(10), this::pass));
+            passed.incrementAndGet();
+        });
+
+        assertThat(first.getStatus()).isEqualTo(HttpStatus.OK.value());
+        MockHttpServletResponse rejected = nested.get();
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("7");
+        assertThat(rejected.getHeader(HttpHeaders.CONNECTION)).isEqualTo("close");
+        assertThat(rejected.getContentAsString()).contains("Too many uploads");
+        assertThat(passed).hasValue(1);
+
+        assertThat(run(upload(10), this::pass).getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(meterRegistry.counter("upload.admission.rejected", "reason", "concurrency").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("upload.admission.admitted").count()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsWhenByteBudgetIsExhausted() throws Exception {
+        filter = new UploadAdmissionFilter(new ObjectMapper().findAndRegisterModules(), meterRegistry,
+                4, DataSize.ofKilobytes(1024), DataSize.ofMegabytes(10), Duration.ofSeconds(7));
+        AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+
+        run(upload(600 * 1024), (request, response) -> nested.set(run(upload(600 * 1024), this::pass)));
+
+        assertThat(nested.get().getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(meterRegistry.counter("upload.admission.rejected", "reason", "bytes").count()).isEqualTo(1);
+        // Bütçeden büyük tek istek sistem boşken yine de kabul edilir
+        assertThat(run(upload(2 * 1024 * 1024), this::pass).getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void releasesPermitsWhenDownstreamFails() throws Exception {
+        assertThatThrownBy(() -> run(upload(10), (request, response) -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(run(upload(10), this::pass).getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void ignoresOtherRequests() throws Exception {
+        run(upload(10), (request, response) -> {
+            // Slot doluyken bile yükleme dışı istekler geçer
+            assertThat(run(new MockHttpServletRequest("GET", UPLOAD), this::pass).getStatus()).isEqualTo(200);
+            assertThat(run(post("/api/timeline", 10), this::pass).getStatus()).isEqualTo(200);
+        });
+        assertThat(passed).hasValue(2);
+    }
+
+    private MockHttpServletResponse run(MockHttpServletRequest request, FilterChain chain) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, chain);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return response;
+    }
+
+    private void pass(ServletRequest request, ServletResponse response) {
+        passed.incrementAndGet();
+    }
+
+    private static MockHttpServletRequest upload(int size) {
+        return post(UPLOAD, size);
+    }
+
+    private static MockHttpServletRequest post(String uri, int size) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContent(new byte[size]);
+        return request;
+    }
+}
@@ -0,0 +1,152 @@
+package com.dogumgunu.backend.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.dogumgunu.backend.common.domain.CachedMedia;
+import com.dogumgunu.backend.service.MediaCacheService;
+import com.dogumgunu.backend.service.MediaGarbageCollector;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MediaControllerTest {
+
+    private static final String SRC = "memory://timeline/photo.jpg";
+    private static final String ETAG = "\"abc\"";
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicInteger released = new AtomicInteger();
+    private MediaCacheService cacheService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("photo.jpg"), "0123456789", StandardCharsets.US_ASCII);
+        cacheService = mock(MediaCacheService.class);
+        when(cacheService.open(SRC)).thenAnswer(invocation ->
+                new CachedMedia(file, 10, MediaType.IMAGE_JPEG, ETAG, released::incrementAndGet));
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new MediaController(cacheService, mock(MediaGarbageCollector.class)))
+                .build();
+    }
+
+    @Test
+    void servesWholeFileWithoutRange() throws Exception {
+        mockMvc.perform(get("/api/media").param("src", SRC))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().string("0123456789"));
+        assertThat(released).hasValue(1);
+    }
+
+    @Test
+    void servesClosedRange() throws Exception {
+        mockMvc.perform(get("/api/media").param("src", SRC).header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+                .andExpect(content().string("2345"));
+    }
+
+    @Test
+    void servesOpenAndSuffixRanges() throws Exception {
+        mockMvc.perform(get("/api/media").param("src", SRC).header(HttpHeaders.RANGE, "bytes=7-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 7-9/10"))
+                .andExpect(content().string("789"));
+
+        mockMvc.perform(get("/api/media").param("src", SRC).header(HttpHeaders.RANGE, "bytes=-4"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 6-9/10"))
+                .andExpect(content().string("6789"));
+    }
+
+    @Test
+    void clampsRangePastEnd() throws Exception {
+        mockMvc.perform(get("/api/media").param("src", SRC).header(HttpHeaders.RANGE, "bytes=8-100"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 8-9/10"))
+                .andExpect(content().string("89"));
+    }
+
+    @Test
+    void rejectsUnsatisfiableRange() throws Exception {
+        mockMvc.perform(get("/api/media").param("src", SRC).header(HttpHeaders.RANGE, "bytes=20-30"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+
+        mockMvc.perform(get("/api/media").param("src", SRC).header(HttpHeaders.RANGE, "bytes=5-2"))
+                .andExpect(status().isRequestedRangeNotSatisfiable());
+        assertThat(released).hasValue(2);
+    }
+
+    @Test
+    void ignoresUnknownRangeUnit() throws Exception {
+        mockMvc.perform(get("/api/media").param("src", SRC).header(HttpHeaders.RANGE, "items=0-1"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    void handsPerResponseLinkToSendfile() throws Exception {
+        Path link = tempDir.resolve("link");
+        when(cacheService.link(any())).thenReturn(link);
+
+        mockMvc.perform(get("/api/media").param("src", SRC)
+                        .header(HttpHeaders.RANGE, "bytes=2-5")
+                        .requestAttr("org.apache.tomcat.sendfile.support", Boolean.TRUE))
+                .andExpect(status().isPartialContent())
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.filename", link.toString()))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.start", 2L))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.end", 6L))
+                .andExpect(content().string(""));
+        assertThat(released).hasValue(1);
+    }
+
+    @Test
+    void copiesBodyWhenLinkIsUnavailable() throws Exception {
+        mockMvc.perform(get("/api/media").param("src", SRC)
+                        .requestAttr("org.apache.tomcat.sendfile.support", Boolean.TRUE))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    void ignoresMultipleRangesAndStaleIfRange() throws Exception {
+        mockMvc.perform(get("/api/media").param("src", SRC).header(HttpHeaders.RANGE, "bytes=0-1,4-5"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0123456789"));
+
+        mockMvc.perform(get("/api/media").param("src", SRC)
+                        .header(HttpHeaders.RANGE, "bytes=0-1")
+                        .header(HttpHeaders.IF_RANGE, "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    void answersNotModifiedForMatchingEtag() throws Exception {
+        mockMvc.perform(get("/api/media").param("src", SRC).header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified());
+        assertThat(released).hasValue(1);
+    }
+}
@@ -0,0 +1,94 @@
+package com.dogumgunu.backend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.dogumgunu.backend.repository.MediaObjectRepository;
+import com.dogumgunu.backend.service.MediaStorageService;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ContentAddressedStorageServiceImplTest {
+
+    private static final String CONTENT = "aynı içerik";
+    private static final String UPLOADED = "memory://timeline/new.jpg";
+    private static final String EXISTING = "memory://timeline/existing.jpg";
+
+    @TempDir
+    Path tempDir;
+
+    private Path source;
+    private String digest;
+    private MediaStorageService delegate;
+    private MediaObjectRepository repository;
+    private ContentAddressedStorageServiceImpl service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        byte[] bytes = CONTENT.getBytes(StandardCharsets.UTF_8);
+        source = Files.write(tempDir.resolve("photo.jpg"), bytes);
+        digest = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        delegate = mock(MediaStorageService.class);
+        repository = mock(MediaObjectRepository.class);
+        when(delegate.uploadFile(any(Path.class), anyString(), anyString(), anyString())).thenReturn(UPLOADED);
+        service = new ContentAddressedStorageServiceImpl(delegate, repository);
+    }
+
+    @Test
+    void reusesKnownDigestWithoutUploading() {
+        when(repository.acquire(digest)).thenReturn(EXISTING);
+
+        assertThat(upload()).isEqualTo(EXISTING);
+        verify(delegate, never()).uploadFile(any(Path.class), anyString(), anyString(), anyString());
+        verify(repository, never()).register(anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    void registersNewDigest() {
+        when(repository.register(digest, UPLOADED, CONTENT.getBytes(StandardCharsets.UTF_8).length))
+                .thenReturn(UPLOADED);
+
+        assertThat(upload()).isEqualTo(UPLOADED);
+        verify(delegate, never()).deleteFile(anyString());
+    }
+
+    @Test
+    void concurrentWinnerKeepsItsCopyAndOursIsRemoved() {
+        // acquire ile register arasında aynı içerik başka bir istekte kaydedildi
+        when(repository.register(eq(digest), eq(UPLOADED), anyLong())).thenReturn(EXISTING);
+
+        assertThat(upload()).isEqualTo(EXISTING);
+        verify(delegate).deleteFile(UPLOADED);
+    }
+
+    @Test
+    void deletesOnlyWhenLastReferenceIsReleased() {
+        when(repository.releaseForDeletion(EXISTING)).thenReturn(false);
+        when(repository.releaseForDeletion(UPLOADED)).thenReturn(true);
+
+        service.deleteFile(EXISTING);
+        service.deleteFile(UPLOADED);
+        service.deleteFile(" ");
+
+        verify(delegate, never()).deleteFile(EXISTING);
+        verify(delegate).deleteFile(UPLOADED);
+        verify(repository, never()).releaseForDeletion(" ");
+    }
+
+    private String upload() {
+        return service.uploadFile(source, "photo.jpg", "image/jpeg", "timeline");
+    }
+}
@@ -0,0 +1,85 @@
+package com.dogumgunu.backend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.dogumgunu.backend.common.domain.MediaDerivatives;
+import com.dogumgunu.backend.service.MediaDeletionService;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * 12 MP JPEG'lerden türev üretiminin saniyedeki görsel sayısını ölçer.
+ * Normal test çalıştırmasına girmez: {@code ./gradlew benchmark}
+ */
+@Tag("benchmark")
+class ImageDerivativeBenchmarkTest {
+
+    private static final int WIDTH = 4032;
+    private static final int HEIGHT = 3024;
+    private static final int WARMUP_IMAGES = 3;
+    private static final int MEASURED_IMAGES = 20;
+
+    @TempDir
+    Path tempDir;
+
+    private ImageDerivativeServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ImageDerivativeServiceImpl(new InMemoryStorageServiceImpl(), mock(MediaDeletionService.class),
+                List.of(320, 640, 1280), 0.8f, 60_000_000L, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void imagesPerSecond() throws IOException {
+        Path source = writeSampleJpeg(tempDir.resolve("sample.jpg"));
+        FileSystemResource resource = new FileSystemResource(source);
+
+        for (int i = 0; i < WARMUP_IMAGES; i++) {
+            service.generate(resource, "benchmark");
+        }
+
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_IMAGES; i++) {
+            MediaDerivatives derivatives = service.generate(resource, "benchmark");
+            assertThat(derivatives.variants()).containsOnlyKeys("320", "640", "1280");
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        System.out.printf("Derivatives: %d images of %dx%d in %.2f s = %.2f images/s (%d cores)%n",
+                MEASURED_IMAGES, WIDTH, HEIGHT, seconds, MEASURED_IMAGES / seconds,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    private static Path writeSampleJpeg(Path target) throws IOException {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setPaint(new GradientPaint(0, 0, Color.PINK, WIDTH, HEIGHT, Color.ORANGE));
+            g.fillRect(0, 0, WIDTH, HEIGHT);
+        } finally {
+            g.dispose();
+        }
+        ImageIO.write(image, "jpeg", target.toFile());
+        return target;
+    }
+}
@@ -0,0 +1,71 @@
+package com.dogumgunu.backend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ImageDerivativeServiceImplTest {
+
+    private static final int RED = 0xFF0000;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void readsOrientationInBothByteOrders(boolean littleEndian) {
+        assertThat(ImageDerivativeServiceImpl.orientationOf(exifWithOrientation(6, littleEndian))).isEqualTo(6);
+    }
+
+    @Test
+    void missingOrInvalidExifIsNormal() {
+        assertThat(ImageDerivativeServiceImpl.orientationOf(new byte[0])).isEqualTo(1);
+        assertThat(ImageDerivativeServiceImpl.orientationOf("http://ns.adobe.com/xap/1.0/\0".getBytes())).isEqualTo(1);
+        assertThat(ImageDerivativeServiceImpl.orientationOf(exifWithOrientation(9, false))).isEqualTo(1);
+    }
+
+    @Test
+    void rotatesPortraitPhotoClockwise() {
+        // 4x2 kaynak, sol üst köşe kırmızı; 6 = 90° saat yönünde
+        BufferedImage source = new BufferedImage(4, 2, BufferedImage.TYPE_INT_RGB);
+        source.setRGB(0, 0, RED);
+
+        BufferedImage oriented = ImageDerivativeServiceImpl.orient(source, 6);
+
+        assertThat(oriented.getWidth()).isEqualTo(2);
+        assertThat(oriented.getHeight()).isEqualTo(4);
+        assertThat(oriented.getRGB(1, 0) & 0xFFFFFF).isEqualTo(RED);
+    }
+
+    @Test
+    void rotatesCounterClockwiseAndTransposes() {
+        BufferedImage source = new BufferedImage(4, 2, BufferedImage.TYPE_INT_RGB);
+        source.setRGB(0, 0, RED);
+
+        BufferedImage counterClockwise = ImageDerivativeServiceImpl.orient(source, 8);
+        assertThat(counterClockwise.getRGB(0, 3) & 0xFFFFFF).isEqualTo(RED);
+
+        BufferedImage transposed = ImageDerivativeServiceImpl.orient(source, 5);
+        assertThat(transposed.getRGB(0, 0) & 0xFFFFFF).isEqualTo(RED);
+    }
+
+    @Test
+    void normalOrientationReturnsSameImage() {
+        BufferedImage source = new BufferedImage(4, 2, BufferedImage.TYPE_INT_RGB);
+        assertThat(ImageDerivativeServiceImpl.orient(source, 1)).isSameAs(source);
+    }
+
+    private static byte[] exifWithOrientation(int orientation, boolean littleEndian) {
+        ByteBuffer buffer = ByteBuffer.allocate(6 + 8 + 2 + 12 + 4);
+        buffer.put("Exif\0\0".getBytes());
+        ByteBuffer tiff = buffer.slice().order(littleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        tiff.put(littleEndian ? (byte) 'I' : (byte) 'M').put(littleEndian ? (byte) 'I' : (byte) 'M');
+        tiff.putShort((short) 42).putInt(8);
+        tiff.putShort((short) 1);
+        tiff.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        tiff.putInt(0);
+        return buffer.array();
+    }
+}
@@ -0,0 +1,132 @@
+package com.dogumgunu.backend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.dogumgunu.backend.repository.MediaDeletionOutboxRepository;
+import com.dogumgunu.backend.repository.MediaDeletionOutboxRepository.OutboxEntry;
+import com.dogumgunu.backend.repository.MediaDeletionOutboxRepository.Retry;
+import com.dogumgunu.backend.repository.MediaObjectRepository;
+import com.dogumgunu.backend.service.MediaCacheService;
+import com.dogumgunu.backend.service.MediaStorageService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class MediaDeletionServiceImplTest {
+
+    private static final String URL = "memory://timeline/photo.jpg";
+    private static final int BATCH_SIZE = 10;
+
+    private final List<Long> deleted = new ArrayList<>();
+    private final List<Retry> retries = new ArrayList<>();
+
+    private MediaDeletionOutboxRepository outboxRepository;
+    private MediaObjectRepository mediaObjectRepository;
+    private MediaStorageService storageBackend;
+    private MediaCacheService mediaCacheService;
+    private MediaDeletionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(MediaDeletionOutboxRepository.class);
+        mediaObjectRepository = mock(MediaObjectRepository.class);
+        storageBackend = mock(MediaStorageService.class);
+        mediaCacheService = mock(MediaCacheService.class);
+        doAnswer(invocation -> deleted.addAll(invocation.<Collection<Long>>getArgument(0)))
+                .when(outboxRepository).deleteAll(any());
+        doAnswer(invocation -> retries.addAll(invocation.<Collection<Retry>>getArgument(0)))
+                .when(outboxRepository).rescheduleAll(any());
+        when(outboxRepository.markReleased(anyLong())).thenReturn(true);
+
+        service = new MediaDeletionServiceImpl(outboxRepository, mediaObjectRepository, storageBackend,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), mediaCacheService,
+                BATCH_SIZE, Duration.ofMinutes(5), Duration.ofSeconds(10), Duration.ofHours(1));
+    }
+
+    @Test
+    void releasesReferenceThenDeletesObject() {
+        claim(new OutboxEntry(1, URL, 0, false));
+        when(mediaObjectRepository.releaseForDeletion(URL)).thenReturn(true);
+
+        service.dispatchPending();
+
+        verify(outboxRepository).markReleased(1);
+        verify(storageBackend).deleteFile(URL);
+        verify(mediaCacheService).evict(URL);
+        assertThat(deleted).containsExactly(1L);
+    }
+
+    @Test
+    void retryOfReleasedEntryDoesNotReleaseAgain() {
+        // Önceki denemede sayaç düşürüldü ama depolama silmesi başarısız oldu
+        claim(new OutboxEntry(2, URL, 1, true));
+
+        service.dispatchPending();
+
+        verify(outboxRepository, never()).markReleased(anyLong());
+        verify(mediaObjectRepository, never()).releaseForDeletion(anyString());
+        verify(storageBackend).deleteFile(URL);
+        assertThat(deleted).containsExactly(2L);
+    }
+
+    @Test
+    void stillReferencedObjectIsKept() {
+        claim(new OutboxEntry(3, URL, 0, false));
+        when(mediaObjectRepository.releaseForDeletion(URL)).thenReturn(false);
+
+        service.dispatchPending();
+
+        verify(storageBackend, never()).deleteFile(anyString());
+        // Outbox satırı release ile aynı transaction'da silinir
+        assertThat(deleted).containsExactly(3L);
+    }
+
+    @Test
+    void entryClaimedElsewhereIsSkipped() {
+        claim(new OutboxEntry(4, URL, 0, false));
+        when(outboxRepository.markReleased(4)).thenReturn(false);
+
+        service.dispatchPending();
+
+        verify(mediaObjectRepository, never()).releaseForDeletion(anyString());
+        verify(storageBackend, never()).deleteFile(anyString());
+        assertThat(deleted).isEmpty();
+        assertThat(retries).isEmpty();
+    }
+
+    @Test
+    void failuresBackOffExponentiallyUpToMax() {
+        claim(new OutboxEntry(5, URL, 0, true),
+                new OutboxEntry(6, URL, 2, true),
+                new OutboxEntry(7, URL, 30, true));
+        doThrow(new RuntimeException("storage down")).when(storageBackend).deleteFile(URL);
+
+        service.dispatchPending();
+
+        assertThat(deleted).isEmpty();
+        assertThat(retries).extracting(Retry::id, Retry::attempts, Retry::delaySeconds).containsExactly(
+                tuple(5L, 1, 10L),
+                tuple(6L, 3, 40L),
+                tuple(7L, 31, 3600L));
+        assertThat(retries).extracting(Retry::error).containsOnly("storage down");
+    }
+
+    private void claim(OutboxEntry... entries) {
+        when(outboxRepository.claimBatch(BATCH_SIZE, 300)).thenReturn(List.of(entries), List.of());
+    }
+}
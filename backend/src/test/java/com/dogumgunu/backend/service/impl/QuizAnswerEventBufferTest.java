@@ -0,0 +1,143 @@
+package com.dogumgunu.backend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class QuizAnswerEventBufferTest {
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertThat(new QuizAnswerEventBuffer(5).capacity()).isEqualTo(8);
+        assertThat(new QuizAnswerEventBuffer(8).capacity()).isEqualTo(8);
+        assertThatThrownBy(() -> new QuizAnswerEventBuffer(1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void fullBufferRejectsUntilDrained() {
+        QuizAnswerEventBuffer buffer = new QuizAnswerEventBuffer(4);
+        UUID questionId = UUID.randomUUID();
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(questionId, true, i)).isTrue();
+        }
+        assertThat(buffer.offer(questionId, true, 4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        assertThat(buffer.drain((id, correct, latency) -> { }, 1)).isEqualTo(1);
+        assertThat(buffer.offer(questionId, true, 5)).isTrue();
+        assertThat(buffer.offer(questionId, true, 6)).isFalse();
+    }
+
+    @Test
+    void wrapsPastCapacityInOrder() {
+        QuizAnswerEventBuffer buffer = new QuizAnswerEventBuffer(4);
+        UUID questionId = UUID.randomUUID();
+        List<Integer> latencies = new ArrayList<>();
+
+        // Her tur 3 olay yazar, 10 turda sıra numaraları kapasiteyi defalarca geçer
+        int next = 0;
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 3; i++) {
+                assertThat(buffer.offer(questionId, next % 2 == 0, next)).isTrue();
+                next++;
+            }
+            int drained = buffer.drain((id, correct, latency) -> {
+                assertThat(id).isEqualTo(questionId);
+                assertThat(correct).isEqualTo(latency % 2 == 0);
+                latencies.add(latency);
+            }, Integer.MAX_VALUE);
+            assertThat(drained).isEqualTo(3);
+        }
+
+        assertThat(latencies).hasSize(30);
+        for (int i = 0; i < latencies.size(); i++) {
+            assertThat(latencies.get(i)).isEqualTo(i);
+        }
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void drainRespectsMax() {
+        QuizAnswerEventBuffer buffer = new QuizAnswerEventBuffer(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(UUID.randomUUID(), false, i);
+        }
+
+        assertThat(buffer.drain((id, correct, latency) -> { }, 2)).isEqualTo(2);
+        assertThat(buffer.size()).isEqualTo(3);
+        assertThat(buffer.drain((id, correct, latency) -> { }, 10)).isEqualTo(3);
+        assertThat(buffer.drain((id, correct, latency) -> { }, 10)).isZero();
+    }
+
+    @Test
+    void multipleProducersLoseNoAcceptedEvents() throws Exception {
+        int producers = 4;
+        int eventsPerProducer = 50_000;
+        QuizAnswerEventBuffer buffer = new QuizAnswerEventBuffer(256);
+        List<UUID> questionIds = new ArrayList<>();
+        for (int i = 0; i < producers; i++) {
+            questionIds.add(UUID.randomUUID());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean producing = new AtomicBoolean(true);
+        Map<UUID, Integer> drainedPerQuestion = new HashMap<>();
+        try {
+            List<Future<Integer>> accepted = new ArrayList<>();
+            for (UUID questionId : questionIds) {
+                accepted.add(executor.submit(() -> {
+                    start.await();
+                    int count = 0;
+                    for (int i = 0; i < eventsPerProducer; i++) {
+                        if (buffer.offer(questionId, true, i)) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+
+            // Tek tüketici: üreticiler bitene ve tampon boşalana kadar okur
+            Thread consumer = new Thread(() -> {
+                while (producing.get() || buffer.size() > 0) {
+                    buffer.drain((id, correct, latency) -> drainedPerQuestion.merge(id, 1, Integer::sum), 64);
+                }
+            });
+            consumer.start();
+            start.countDown();
+
+            int totalAccepted = 0;
+            Map<UUID, Integer> acceptedPerQuestion = new HashMap<>();
+            for (int i = 0; i < producers; i++) {
+                int count = accepted.get(i).get(30, TimeUnit.SECONDS);
+                acceptedPerQuestion.put(questionIds.get(i), count);
+                totalAccepted += count;
+            }
+            producing.set(false);
+            consumer.join(TimeUnit.SECONDS.toMillis(30));
+
+            assertThat(consumer.isAlive()).isFalse();
+            assertThat(totalAccepted).isPositive();
+            // join sonrası tüketicinin yazdıkları görünür
+            acceptedPerQuestion.forEach((id, count) ->
+                    assertThat(drainedPerQuestion.getOrDefault(id, 0)).as("events for %s", id).isEqualTo(count));
+            assertThat(buffer.size()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.dogumgunu.backend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.dogumgunu.backend.common.json.RawJson;
+import com.dogumgunu.backend.dto.QuizQuestionDto;
+import com.dogumgunu.backend.enums.QuizDifficulty;
+import com.dogumgunu.backend.mapper.QuizQuestionMapper;
+import com.dogumgunu.backend.model.QuizQuestionEntity;
+import com.dogumgunu.backend.repository.QuizQuestionRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Rastgele soru seçiminde {@link QuizQuestionPool#sample} ile eski findAll + Collections.shuffle
+ * yolunu karşılaştırır. Eski yolun veritabanı gidiş-dönüşü ölçüme dahil değildir; sadece listenin
+ * kopyalanması, karıştırılması ve eşlenmesi ölçülür. Normal test çalıştırmasına girmez:
+ * {@code ./gradlew benchmark}
+ */
+@Tag("benchmark")
+class QuizQuestionPoolBenchmarkTest {
+
+    private static final int QUESTIONS = 2_000;
+    private static final int COUNT = 10;
+    private static final int WARMUP_CALLS = 20_000;
+    private static final int MEASURED_CALLS = 200_000;
+
+    private final List<QuizQuestionEntity> entities = new ArrayList<>();
+    private QuizQuestionPool pool;
+
+    @BeforeEach
+    void setUp() {
+        QuizDifficulty[] difficulties = QuizDifficulty.values();
+        for (int i = 0; i < QUESTIONS; i++) {
+            QuizQuestionEntity entity = new QuizQuestionEntity();
+            entity.setId(UUID.randomUUID());
+            entity.setQuestion("Soru " + i);
+            entity.setOptions("[\"a\",\"b\",\"c\",\"d\"]");
+            entity.setCorrectOption((short) (i % 4));
+            entity.setDifficulty(difficulties[i % difficulties.length]);
+            entities.add(entity);
+        }
+
+        QuizQuestionRepository repository = mock(QuizQuestionRepository.class);
+        QuizQuestionMapper mapper = mock(QuizQuestionMapper.class);
+        when(repository.findAll()).thenReturn(entities);
+        when(mapper.toDto(any())).thenAnswer(invocation -> toDto(invocation.getArgument(0)));
+        pool = new QuizQuestionPool(repository, mapper);
+    }
+
+    @Test
+    void samplesPerSecond() {
+        assertThat(pool.sample(COUNT, null)).hasSize(COUNT).doesNotHaveDuplicates();
+        assertThat(shuffleAll(COUNT)).hasSize(COUNT).doesNotHaveDuplicates();
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            sink += pool.sample(COUNT, null).size();
+            sink += shuffleAll(COUNT).size();
+        }
+
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            sink += pool.sample(COUNT, null).size();
+        }
+        double poolSeconds = (System.nanoTime() - started) / 1e9;
+
+        started = System.nanoTime();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            sink += shuffleAll(COUNT).size();
+        }
+        double shuffleSeconds = (System.nanoTime() - started) / 1e9;
+
+        System.out.printf("Pool sample:     %d x %d of %d in %.2f s = %.0f samples/s%n",
+                MEASURED_CALLS, COUNT, QUESTIONS, poolSeconds, MEASURED_CALLS / poolSeconds);
+        System.out.printf("findAll+shuffle: %d x %d of %d in %.2f s = %.0f samples/s%n",
+                MEASURED_CALLS, COUNT, QUESTIONS, shuffleSeconds, MEASURED_CALLS / shuffleSeconds);
+        System.out.printf("Speedup: %.1fx (checksum %d)%n", shuffleSeconds / poolSeconds, sink);
+    }
+
+    /**
+     * Eski QuizServiceImpl yolu: findAll her çağrıda yeni bir liste döndürür, tamamı karıştırılır.
+     */
+    private List<QuizQuestionDto> shuffleAll(int count) {
+        List<QuizQuestionEntity> all = new ArrayList<>(entities);
+        Collections.shuffle(all);
+        return all.stream()
+                .limit(count)
+                .map(QuizQuestionPoolBenchmarkTest::toDto)
+                .toList();
+    }
+
+    private static QuizQuestionDto toDto(QuizQuestionEntity entity) {
+        return new QuizQuestionDto(entity.getId(), entity.getQuestion(), RawJson.of(entity.getOptions()),
+                entity.getCorrectOption(), entity.getExplanation(), entity.getRewardMediaUrl(), entity.getDifficulty());
+    }
+}
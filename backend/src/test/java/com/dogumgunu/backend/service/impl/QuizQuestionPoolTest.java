@@ -0,0 +1,86 @@
+package com.dogumgunu.backend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.dogumgunu.backend.common.json.RawJson;
+import com.dogumgunu.backend.dto.QuizQuestionDto;
+import com.dogumgunu.backend.enums.QuizDifficulty;
+import com.dogumgunu.backend.mapper.QuizQuestionMapper;
+import com.dogumgunu.backend.model.QuizQuestionEntity;
+import com.dogumgunu.backend.repository.QuizQuestionRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QuizQuestionPoolTest {
+
+    private static final int EASY_COUNT = 6;
+    private static final int HARD_COUNT = 4;
+
+    private final List<QuizQuestionDto> questions = new ArrayList<>();
+    private QuizQuestionPool pool;
+
+    @BeforeEach
+    void setUp() {
+        List<QuizQuestionEntity> entities = new ArrayList<>();
+        for (int i = 0; i < EASY_COUNT + HARD_COUNT; i++) {
+            QuizDifficulty difficulty = i < EASY_COUNT ? QuizDifficulty.EASY : QuizDifficulty.HARD;
+            questions.add(new QuizQuestionDto(UUID.randomUUID(), "Soru " + i, RawJson.of("[\"a\",\"b\"]"),
+                    (short) 0, null, null, difficulty));
+            entities.add(new QuizQuestionEntity());
+        }
+
+        QuizQuestionRepository repository = mock(QuizQuestionRepository.class);
+        QuizQuestionMapper mapper = mock(QuizQuestionMapper.class);
+        when(repository.findAll()).thenReturn(entities);
+        when(mapper.toDto(any())).thenAnswer(invocation -> questions.get(entities.indexOf(invocation.getArgument(0))));
+        pool = new QuizQuestionPool(repository, mapper);
+    }
+
+    @Test
+    void sampleIsDistinctAndSized() {
+        for (int count = 0; count <= questions.size(); count++) {
+            List<QuizQuestionDto> sample = pool.sample(count, null);
+            assertThat(sample).hasSize(count).doesNotHaveDuplicates();
+            assertThat(questions).containsAll(sample);
+        }
+    }
+
+    @Test
+    void sampleIsBoundedByPoolSize() {
+        assertThat(pool.sample(50, null)).hasSize(questions.size()).doesNotHaveDuplicates();
+        assertThat(pool.sample(50, QuizDifficulty.HARD)).hasSize(HARD_COUNT);
+        assertThat(pool.sample(-1, null)).isEmpty();
+    }
+
+    @Test
+    void sampleFiltersByDifficulty() {
+        assertThat(pool.sample(EASY_COUNT, QuizDifficulty.EASY))
+                .allMatch(question -> question.difficulty() == QuizDifficulty.EASY);
+        assertThat(pool.sample(10, QuizDifficulty.MEDIUM)).isEmpty();
+    }
+
+    @Test
+    void repeatedSamplesReachEveryQuestion() {
+        // Kısmi karıştırma sadece ilk elemanları seçmemeli
+        Set<QuizQuestionDto> seen = new HashSet<>();
+        for (int i = 0; i < 500 && seen.size() < questions.size(); i++) {
+            seen.addAll(pool.sample(2, null));
+        }
+        assertThat(seen).containsExactlyInAnyOrderElementsOf(questions);
+    }
+
+    @Test
+    void findsQuestionById() {
+        QuizQuestionDto question = questions.get(3);
+        assertThat(pool.find(question.id())).isEqualTo(question);
+        assertThat(pool.find(UUID.randomUUID())).isNull();
+    }
+}
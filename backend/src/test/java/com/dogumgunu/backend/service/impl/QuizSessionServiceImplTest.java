@@ -0,0 +1,189 @@
+package com.dogumgunu.backend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.dogumgunu.backend.common.json.RawJson;
+import com.dogumgunu.backend.dto.QuizAnswerDto;
+import com.dogumgunu.backend.dto.QuizAnswerResultDto;
+import com.dogumgunu.backend.dto.QuizQuestionDto;
+import com.dogumgunu.backend.dto.QuizResultDto;
+import com.dogumgunu.backend.dto.QuizSessionDto;
+import com.dogumgunu.backend.enums.QuizDifficulty;
+import com.dogumgunu.backend.exception.BadRequestException;
+import com.dogumgunu.backend.service.QuizAnswerAnalyticsService;
+import com.dogumgunu.backend.service.QuizService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class QuizSessionServiceImplTest {
+
+    private static final String USER = "ece";
+    private static final int POINTS = 20;
+
+    private final QuizQuestionDto first = question((short) 1);
+    private final QuizQuestionDto second = question((short) 2);
+
+    private QuizQuestionPool questionPool;
+    private QuizService quizService;
+    private QuizAnswerAnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        questionPool = mock(QuizQuestionPool.class);
+        quizService = mock(QuizService.class);
+        analyticsService = mock(QuizAnswerAnalyticsService.class);
+        when(questionPool.sample(anyInt(), any())).thenReturn(List.of(first, second));
+        when(questionPool.find(first.id())).thenReturn(first);
+        when(quizService.recordResult(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void startHidesAnswers() {
+        QuizSessionDto session = service(Duration.ofMinutes(5), 10).start(USER, 2, null);
+
+        assertThat(session.questions()).extracting("id").containsExactly(first.id(), second.id());
+        assertThat(session.pointsPerQuestion()).isEqualTo(POINTS);
+    }
+
+    @Test
+    void questionCanBeAnsweredOnlyOnce() {
+        QuizSessionServiceImpl service = service(Duration.ofMinutes(5), 10);
+        UUID sessionId = service.start(USER, 2, null).sessionId();
+
+        QuizAnswerResultDto result = service.answer(sessionId, USER, new QuizAnswerDto(first.id(), (short) 1));
+        assertThat(result.correct()).isTrue();
+        assertThat(result.score()).isEqualTo(POINTS);
+        verify(analyticsService).record(eq(first.id()), eq(true), anyLong());
+
+        assertThatThrownBy(() -> service.answer(sessionId, USER, new QuizAnswerDto(first.id(), (short) 0)))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+    }
+
+    @Test
+    void concurrentAnswersHaveSingleWinner() throws Exception {
+        QuizSessionServiceImpl service = service(Duration.ofMinutes(5), 10);
+        UUID sessionId = service.start(USER, 2, null).sessionId();
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Boolean>> attempts = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                short option = (short) (i % 3);
+                attempts.add(() -> {
+                    try {
+                        service.answer(sessionId, USER, new QuizAnswerDto(second.id(), option));
+                        return true;
+                    } catch (ResponseStatusException e) {
+                        return false;
+                    }
+                });
+            }
+            int winners = 0;
+            for (Future<Boolean> attempt : executor.invokeAll(attempts, 30, TimeUnit.SECONDS)) {
+                winners += attempt.get() ? 1 : 0;
+            }
+            assertThat(winners).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void finishRecordsServerScoreOnce() {
+        QuizSessionServiceImpl service = service(Duration.ofMinutes(5), 10);
+        UUID sessionId = service.start(USER, 2, null).sessionId();
+        service.answer(sessionId, USER, new QuizAnswerDto(first.id(), (short) 1));
+
+        QuizResultDto result = service.finish(sessionId, USER, "Tebrikler");
+        assertThat(result.score()).isEqualTo(POINTS);
+        assertThat(result.maxScore()).isEqualTo(2 * POINTS);
+
+        assertThatThrownBy(() -> service.finish(sessionId, USER, null)).isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> service.answer(sessionId, USER, new QuizAnswerDto(second.id(), (short) 2)))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void otherUsersCannotUseSession() {
+        QuizSessionServiceImpl service = service(Duration.ofMinutes(5), 10);
+        UUID sessionId = service.start(USER, 2, null).sessionId();
+
+        assertThatThrownBy(() -> service.answer(sessionId, "baska", new QuizAnswerDto(first.id(), (short) 1)))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void rejectsQuestionOutsideSession() {
+        QuizSessionServiceImpl service = service(Duration.ofMinutes(5), 10);
+        UUID sessionId = service.start(USER, 2, null).sessionId();
+
+        assertThatThrownBy(() -> service.answer(sessionId, USER, new QuizAnswerDto(UUID.randomUUID(), (short) 1)))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void capRejectsNewSessionsUntilOneFinishes() {
+        QuizSessionServiceImpl service = service(Duration.ofMinutes(5), 1);
+        UUID sessionId = service.start(USER, 2, QuizDifficulty.EASY).sessionId();
+
+        assertThatThrownBy(() -> service.start(USER, 2, null))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+
+        service.finish(sessionId, USER, null);
+        assertThat(service.start(USER, 2, null).sessionId()).isNotEqualTo(sessionId);
+    }
+
+    @Test
+    void expiredSessionsAreEvictedAndFreeCapacity() throws InterruptedException {
+        QuizSessionServiceImpl service = service(Duration.ofMillis(1), 1);
+        UUID sessionId = service.start(USER, 2, null).sessionId();
+        Thread.sleep(5);
+
+        // Sınıra takılan başlatma önce süresi dolanları temizler
+        assertThat(service.start(USER, 2, null).sessionId()).isNotEqualTo(sessionId);
+        assertThatThrownBy(() -> service.answer(sessionId, USER, new QuizAnswerDto(first.id(), (short) 1)))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void rejectsInvalidCount() {
+        QuizSessionServiceImpl service = service(Duration.ofMinutes(5), 10);
+
+        assertThatThrownBy(() -> service.start(USER, 0, null)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.start(USER, 21, null)).isInstanceOf(BadRequestException.class);
+    }
+
+    private QuizSessionServiceImpl service(Duration ttl, int maxSessions) {
+        return new QuizSessionServiceImpl(questionPool, quizService, analyticsService, new SimpleMeterRegistry(),
+                ttl, maxSessions, 20, POINTS);
+    }
+
+    private static QuizQuestionDto question(short correctOption) {
+        return new QuizQuestionDto(UUID.randomUUID(), "Soru", RawJson.of("[\"a\",\"b\",\"c\"]"),
+                correctOption, "Açıklama", null, QuizDifficulty.EASY);
+    }
+}
@@ -0,0 +1,48 @@
+package com.dogumgunu.backend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class UrlFingerprintSetTest {
+
+    private static final String URL = "https://firebasestorage.googleapis.com/v0/b/bucket/o/timeline%2Fa.jpg";
+
+    @Test
+    void findsAddedUrlsIgnoringQuery() {
+        UrlFingerprintSet set = new UrlFingerprintSet();
+        set.add(URL + "?alt=media&token=1");
+        set.seal();
+
+        assertThat(set.mightContain(URL)).isTrue();
+        assertThat(set.mightContain(URL + "?alt=media")).isTrue();
+        assertThat(set.mightContain(URL.replace("a.jpg", "b.jpg"))).isFalse();
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        // İlk dizi 1024 elemanlık; büyüme sonrası hiçbir kayıt kaybolmamalı
+        UrlFingerprintSet set = new UrlFingerprintSet();
+        for (int i = 0; i < 5000; i++) {
+            set.add("memory://timeline/" + i + ".jpg");
+        }
+        set.seal();
+
+        assertThat(set.size()).isEqualTo(5000);
+        for (int i = 0; i < 5000; i++) {
+            assertThat(set.mightContain("memory://timeline/" + i + ".jpg")).isTrue();
+        }
+        assertThat(set.mightContain("memory://timeline/5000.jpg")).isFalse();
+    }
+
+    @Test
+    void enforcesSealLifecycle() {
+        UrlFingerprintSet set = new UrlFingerprintSet();
+        assertThatThrownBy(() -> set.mightContain(URL)).isInstanceOf(IllegalStateException.class);
+
+        set.seal();
+        assertThat(set.mightContain(URL)).isFalse();
+        assertThatThrownBy(() -> set.add(URL)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -1,5 +1,6 @@
 import type { TimelineEvent } from '../types/timeline'
 import LazyImage from './LazyImage'
+import { mediaSrc } from '../utils/api'
 
 interface TimelineEventCardProps {
   event: TimelineEvent
@@ -18,6 +19,9 @@ const TimelineEventCard = ({ event, index, badge, onDelete, isDeleting, onClick,
     year: 'numeric',
   })
 
+  // Kart 12rem yüksekliğinde; orijinal yerine 640px varyant yeterli
+  const cardImageUrl = mediaSrc(event.mediaVariants?.['640'] ?? event.mediaUrl)
+
   const baseClasses = 'group relative transition-transform duration-300 hover:-translate-y-1'
   const articleClasses = className ? `${className} ${baseClasses}` : baseClasses
 
@@ -30,10 +34,13 @@ const TimelineEventCard = ({ event, index, badge, onDelete, isDeleting, onClick,
         className="flex h-full cursor-pointer flex-col overflow-hidden rounded-3xl bg-white/60 text-[#4A4A4A] shadow-[0_25px_60px_rgba(238,43,91,0.12)] ring-1 ring-rose-100/70 backdrop-blur-sm transition hover:-translate-y-1 hover:ring-primary/60 dark:bg-[#2b141b] dark:text-gray-100 dark:ring-white/10"
         onClick={onClick}
       >
-        <div className="relative h-48 w-full overflow-hidden">
-          {event.mediaUrl ? (
+        <div
+          className="relative h-48 w-full overflow-hidden bg-cover bg-center"
+          style={event.mediaPlaceholder ? { backgroundImage: `url(${event.mediaPlaceholder})` } : undefined}
+        >
+          {cardImageUrl ? (
             <LazyImage
-              src={event.mediaUrl}
+              src={cardImageUrl}
               alt={event.title}
               className="h-full w-full object-cover transition duration-700 group-hover:scale-105"
             />
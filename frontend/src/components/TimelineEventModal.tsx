@@ -2,6 +2,7 @@ import { useState } from 'react'
 import { motion, AnimatePresence } from 'framer-motion'
 import type { TimelineEvent } from '../types/timeline'
 import LazyImage from './LazyImage'
+import { mediaSrc } from '../utils/api'
 
 interface TimelineEventModalProps {
   event: TimelineEvent | null
@@ -90,7 +91,7 @@ const TimelineEventModal = ({ event, onClose }: TimelineEventModalProps) => {
             {event.mediaUrl && (
               <div className="relative flex w-full items-center justify-center overflow-hidden rounded-t-3xl bg-[#f8f6f6] p-4 sm:p-6">
                 <LazyImage
-                  src={event.mediaUrl}
+                  src={mediaSrc(event.mediaUrl)}
                   alt={event.title}
                   className="max-h-[520px] w-full object-contain"
                 />
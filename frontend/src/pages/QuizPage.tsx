@@ -2,18 +2,25 @@ import { useState, useEffect } from 'react'
 import { useNavigate } from 'react-router-dom'
 import { motion, AnimatePresence } from 'framer-motion'
 import NavigationTabs from '../components/NavigationTabs'
-import { apiFetch } from '../utils/api'
+import { apiFetch, mediaSrc } from '../utils/api'
 
 interface QuizQuestion {
   id: string
   question: string
   options: string[] | Record<string, unknown>
-  correctOption: number
-  explanation: string
   rewardMediaUrl?: string
   difficulty: 'EASY' | 'MEDIUM' | 'HARD'
 }
 
+// Doğru cevap sadece cevap verildikten sonra sunucudan gelir
+interface QuizAnswerResult {
+  correct: boolean
+  correctOption: number
+  explanation?: string
+  score: number
+  answeredCount: number
+}
+
 type QuizState = 'start' | 'playing' | 'result'
 
 const HERO_IMAGE_URL =
@@ -60,6 +67,10 @@ const QuizPage = () => {
   const [currentQuestionIndex, setCurrentQuestionIndex] = useState(0)
   const [selectedOption, setSelectedOption] = useState<number | null>(null)
   const [feedback, setFeedback] = useState<'correct' | 'incorrect' | null>(null)
+  const [answerResult, setAnswerResult] = useState<QuizAnswerResult | null>(null)
+  const [sessionId, setSessionId] = useState<string | null>(null)
+  const [pointsPerQuestion, setPointsPerQuestion] = useState(20)
+  const [isSubmittingAnswer, setIsSubmittingAnswer] = useState(false)
   const [score, setScore] = useState(0)
   const [answers, setAnswers] = useState<boolean[]>([])
   const [username, setUsername] = useState<string>('')
@@ -84,23 +95,26 @@ const QuizPage = () => {
 
   const fetchPreviousResults = async (user: string) => {
     try {
-      const response = await apiFetch(`/api/quiz/results?username=${encodeURIComponent(user)}`)
+      const response = await apiFetch(`/api/quiz/results?username=${encodeURIComponent(user)}&limit=5`)
 
       if (response.ok) {
         const data = await response.json()
-        setPreviousResults(data.slice(0, 5)) // Son 5 sonuç
+        setPreviousResults(data.items) // Son 5 sonuç
       }
     } catch (error) {
       console.error('Geçmiş sonuçlar yüklenemedi:', error)
     }
   }
 
-  const fetchQuestions = async () => {
+  const startSession = async () => {
     try {
       setQuestionError(null)
       setIsLoadingQuestions(true)
-      const response = await apiFetch('/api/quiz/questions/random?count=5')
+      const response = await apiFetch('/api/quiz/sessions?count=5', { method: 'POST' })
 
+      if (response.status === 404) {
+        throw new Error('Sorular bulunamadı. Lütfen daha sonra tekrar dene.')
+      }
 
       if (!response.ok) {
         throw new Error('Sorular yüklenemedi')
@@ -108,11 +122,13 @@ const QuizPage = () => {
 
       const data = await response.json()
 
-      if (!Array.isArray(data) || data.length === 0) {
+      if (!Array.isArray(data.questions) || data.questions.length === 0) {
         throw new Error('Sorular bulunamadı. Lütfen daha sonra tekrar dene.')
       }
 
-      setQuestions(data)
+      setSessionId(data.sessionId)
+      setPointsPerQuestion(data.pointsPerQuestion)
+      setQuestions(data.questions)
       return true
     } catch (error) {
       console.error('Quiz yükleme hatası:', error)
@@ -147,7 +163,7 @@ const QuizPage = () => {
       }
     }
 
-    const hasQuestions = await fetchQuestions()
+    const hasQuestions = await startSession()
     if (!hasQuestions) {
       return
     }
@@ -158,23 +174,39 @@ const QuizPage = () => {
     setAnswers([])
     setSelectedOption(null)
     setFeedback(null)
+    setAnswerResult(null)
   }
 
-  const handleOptionSelect = (optionIndex: number) => {
-    if (feedback !== null) return
+  const handleOptionSelect = async (optionIndex: number) => {
+    if (feedback !== null || isSubmittingAnswer || !sessionId) return
     const currentQuestion = questions[currentQuestionIndex]
     if (!currentQuestion) return
 
     setSelectedOption(optionIndex)
-    const isCorrect = optionIndex === currentQuestion.correctOption
+    setIsSubmittingAnswer(true)
 
-    setFeedback(isCorrect ? 'correct' : 'incorrect')
+    try {
+      const response = await apiFetch(`/api/quiz/sessions/${sessionId}/answers`, {
+        method: 'POST',
+        headers: { 'Content-Type': 'application/json' },
+        body: JSON.stringify({ questionId: currentQuestion.id, selectedOption: optionIndex }),
+      })
 
-    if (isCorrect) {
-      setScore((prev) => prev + 20)
-    }
+      if (!response.ok) {
+        throw new Error('Cevap gönderilemedi')
+      }
 
-    setAnswers((prev) => [...prev, isCorrect])
+      const result: QuizAnswerResult = await response.json()
+      setAnswerResult(result)
+      setFeedback(result.correct ? 'correct' : 'incorrect')
+      setScore(result.score)
+      setAnswers((prev) => [...prev, result.correct])
+    } catch (error) {
+      console.error('Cevap gönderme hatası:', error)
+      setSelectedOption(null)
+    } finally {
+      setIsSubmittingAnswer(false)
+    }
   }
 
   const handleNext = () => {
@@ -182,6 +214,7 @@ const QuizPage = () => {
       setCurrentQuestionIndex(currentQuestionIndex + 1)
       setSelectedOption(null)
       setFeedback(null)
+      setAnswerResult(null)
     } else {
       setQuizState('result')
       saveResult()
@@ -189,22 +222,18 @@ const QuizPage = () => {
   }
 
   const saveResult = async () => {
-    if (!username) {
+    if (!username || !sessionId) {
       return
     }
 
     try {
-      await apiFetch('/api/quiz/results', {
+      // Puan sunucuda hesaplanır; sadece gösterilen mesaj gönderilir
+      await apiFetch(`/api/quiz/sessions/${sessionId}/finish`, {
         method: 'POST',
         headers: { 'Content-Type': 'application/json' },
-        body: JSON.stringify({
-          username,
-          score,
-          maxScore: questions.length * 20,
-          completedAt: new Date().toISOString(),
-          messageShown: getScoreMessage(score),
-        }),
+        body: JSON.stringify({ messageShown: getScoreMessage(score) }),
       })
+      setSessionId(null)
       
       // Sonuç kaydedildikten sonra listeyi güncelle
       if (username) {
@@ -220,7 +249,7 @@ const QuizPage = () => {
   const progressPercent = questions.length ? Math.round(((currentQuestionIndex + 1) / questions.length) * 100) : 0
   const isLastQuestion = currentQuestionIndex === questions.length - 1
   const answeredCorrectCount = answers.filter(Boolean).length
-  const totalScore = questions.length * 20
+  const totalScore = questions.length * pointsPerQuestion
 
   return (
     <main className="min-h-screen bg-gradient-to-br from-rose-50 via-amber-50 to-lilac-100 px-4 py-6 font-display text-[#4A4A4A] dark:bg-background-dark dark:text-gray-200">
@@ -292,7 +321,7 @@ const QuizPage = () => {
                       <div
                         className="h-48 w-full rounded-t-2xl bg-cover bg-center sm:h-auto sm:w-1/3 sm:rounded-l-2xl sm:rounded-tr-none"
                         style={{
-                          backgroundImage: `url(${currentQuestion.rewardMediaUrl || QUESTION_IMAGE_PLACEHOLDER})`,
+                          backgroundImage: `url(${mediaSrc(currentQuestion.rewardMediaUrl) || QUESTION_IMAGE_PLACEHOLDER})`,
                           backgroundSize: 'cover',
                           backgroundPosition: 'center',
                         }}
@@ -306,7 +335,7 @@ const QuizPage = () => {
 
                     <div className="flex flex-col gap-3">
                       {questionOptions.map((option, index) => {
-                        const isCorrectOption = index === currentQuestion.correctOption
+                        const isCorrectOption = index === answerResult?.correctOption
                         const isSelectedOption = selectedOption === index
                         const answered = feedback !== null
 
@@ -330,7 +359,7 @@ const QuizPage = () => {
                               className="h-5 w-5 cursor-pointer accent-primary"
                               checked={selectedOption === index}
                               onChange={() => handleOptionSelect(index)}
-                              disabled={feedback !== null}
+                              disabled={feedback !== null || isSubmittingAnswer}
                             />
                             <div className="flex grow flex-col">
                               <p className="text-base font-semibold">{option}</p>
@@ -349,8 +378,8 @@ const QuizPage = () => {
                         <p className={`text-base font-semibold ${feedback === 'correct' ? 'text-emerald-600' : 'text-rose-600'}`}>
                           {feedback === 'correct' ? 'Aferin aşkıma! ' : 'Olmadı bu kez, yeniden dene! '}
                         </p>
-                        {currentQuestion.explanation && (
-                          <p className="mt-2 text-sm text-[#89616b] dark:text-gray-400">{currentQuestion.explanation}</p>
+                        {answerResult?.explanation && (
+                          <p className="mt-2 text-sm text-[#89616b] dark:text-gray-400">{answerResult.explanation}</p>
                         )}
                         <button
                           onClick={handleNext}
@@ -1,6 +1,6 @@
 import { useCallback, useEffect, useState } from 'react'
 import { useNavigate } from 'react-router-dom'
-import type { TimelineEvent } from '../types/timeline'
+import type { CursorPage, TimelineEvent } from '../types/timeline'
 import LoadingSpinner from '../components/LoadingSpinner'
 import ErrorMessage from '../components/ErrorMessage'
 import TimelineEventCard from '../components/TimelineEventCard'
@@ -17,7 +17,9 @@ const interactionBadges = {
 
 const TimelinePage = () => {
   const [events, setEvents] = useState<TimelineEvent[]>([])
+  const [nextCursor, setNextCursor] = useState<string | null>(null)
   const [isLoading, setIsLoading] = useState(true)
+  const [isLoadingMore, setIsLoadingMore] = useState(false)
   const [error, setError] = useState<string | null>(null)
   const [deletingId, setDeletingId] = useState<string | null>(null)
   const [selectedEvent, setSelectedEvent] = useState<TimelineEvent | null>(null)
@@ -25,31 +27,57 @@ const TimelinePage = () => {
   const [eventToDelete, setEventToDelete] = useState<TimelineEvent | null>(null)
   const navigate = useNavigate()
 
+  const fetchTimelinePage = useCallback(async (cursor: string | null) => {
+    const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : ''
+    const response = await apiFetch(`/api/timeline${query}`)
+
+    if (response.status === 401) {
+      console.log('Not authenticated for timeline, redirecting to login')
+      navigate('/login', { replace: true })
+      return null
+    }
+
+    if (!response.ok) {
+      throw new Error('Timeline yüklenemedi')
+    }
+
+    // Sunucu en yeni anıdan eskiye doğru sıralı sayfa döner
+    const page: CursorPage<TimelineEvent> = await response.json()
+    return page
+  }, [navigate])
+
   const fetchTimeline = useCallback(async () => {
     try {
       setIsLoading(true)
-      const response = await apiFetch('/api/timeline')
+      const page = await fetchTimelinePage(null)
+      if (!page) return
 
-      if (response.status === 401) {
-        console.log('Not authenticated for timeline, redirecting to login')
-        navigate('/login', { replace: true })
-        return
-      }
-
-      if (!response.ok) {
-        throw new Error('Timeline yüklenemedi')
-      }
-
-      const data: TimelineEvent[] = await response.json()
-      // Tarihe göre sırala (en yeni en üstte)
-      const sorted = data.sort((a, b) => new Date(b.eventDate).getTime() - new Date(a.eventDate).getTime())
-      setEvents(sorted)
+      setEvents(page.items)
+      setNextCursor(page.nextCursor)
     } catch (err) {
       setError(err instanceof Error ? err.message : 'Bir hata oluştu')
     } finally {
       setIsLoading(false)
     }
-  }, [navigate])
+  }, [fetchTimelinePage])
+
+  const handleLoadMore = async () => {
+    if (!nextCursor) return
+
+    try {
+      setIsLoadingMore(true)
+      const page = await fetchTimelinePage(nextCursor)
+      if (!page) return
+
+      setEvents((prev) => [...prev, ...page.items])
+      setNextCursor(page.nextCursor)
+    } catch (err) {
+      window.alert(err instanceof Error ? err.message : 'Anılar yüklenemedi')
+    } finally {
+      setIsLoadingMore(false)
+    }
+  }
+
 
   const handleDeleteClick = (eventId: string) => {
     const event = events.find((e) => e.id === eventId)
@@ -218,6 +246,18 @@ const TimelinePage = () => {
               <p>Henüz timeline olayı eklenmemiş.</p>
             </div>
           )}
+
+          {nextCursor && (
+            <div className="mt-8 flex justify-center">
+              <button
+                onClick={handleLoadMore}
+                disabled={isLoadingMore}
+                className="inline-flex items-center gap-2 rounded-full bg-white px-6 py-3 text-sm font-semibold text-primary shadow-md ring-1 ring-rose-100 transition duration-300 hover:-translate-y-0.5 disabled:opacity-60 dark:bg-[#2b141b] dark:ring-white/10"
+              >
+                {isLoadingMore ? 'Yükleniyor...' : 'Daha fazla anı yükle'}
+              </button>
+            </div>
+          )}
         </section>
 
         <section className="mt-16 grid gap-6 md:grid-cols-2">
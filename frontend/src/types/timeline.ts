@@ -6,6 +6,14 @@ export interface TimelineEvent {
   eventDate: string
   description: string
   mediaUrl?: string
+  mediaStatus?: 'PENDING' | 'READY' | 'FAILED'
+  mediaVariants?: Record<string, string>
+  mediaPlaceholder?: string
   interactionType: TimelineInteractionType
   interactionPayload?: unknown
 }
+
+export interface CursorPage<T> {
+  items: T[]
+  nextCursor: string | null
+}
@@ -40,3 +40,16 @@ export const apiFetch = (path: string, options: RequestInit = {}) => {
 
   return fetch(url, mergedOptions)
 }
+
+let mediaBaseUrl: string | undefined
+
+// Depolama URL'lerini backend'in disk cache'li medya proxy'si üzerinden sunar
+export function mediaSrc(url: string): string
+export function mediaSrc(url?: string): string | undefined
+export function mediaSrc(url?: string) {
+  if (!url) return url
+  if (mediaBaseUrl === undefined) {
+    mediaBaseUrl = getBaseUrl()
+  }
+  return `${mediaBaseUrl}/api/media?src=${encodeURIComponent(url)}`
+}